@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ko_sys.av.airac.benchmarks;
+
+import com.ko_sys.av.airac.Airac;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single threaded benchmarks of the public entry points of {@link Airac}.
+ * <p>
+ * Every benchmark runs against historic, current and far-future inputs, see {@link Era}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class AiracBenchmark {
+	/**
+	 * Input eras.
+	 * <p>
+	 * Identifiers only cover the years 1964 until 2063, hence the far-future identifier is the last one that can be
+	 * expressed.
+	 */
+	public enum Era {
+		HISTORIC(1976, 7, 1, "7613"),
+		CURRENT(2024, 3, 1, "2403"),
+		FAR_FUTURE(2200, 1, 1, "6313");
+
+		final Instant instant;
+		final String identifier;
+
+		Era(int year, int month, int day, String identifier) {
+			this.instant = Instant.from(ZonedDateTime.of(year, month, day, 12, 0, 0, 0, ZoneOffset.UTC));
+			this.identifier = identifier;
+		}
+	}
+
+	@Param
+	public Era era;
+
+	private Instant instant;
+	private String identifier;
+	private byte[] identifierBytes;
+	private int identifierCode;
+	private Airac airac;
+
+	@Setup
+	public void setUp() {
+		instant = era.instant;
+		identifier = era.identifier;
+		identifierBytes = identifier.getBytes(StandardCharsets.US_ASCII);
+		identifierCode = Integer.parseInt(identifier);
+		airac = Airac.fromInstant(instant);
+	}
+
+	@Benchmark
+	public Airac fromInstant() {
+		return Airac.fromInstant(instant);
+	}
+
+	@Benchmark
+	public Airac fromIdentifier() {
+		return Airac.fromIdentifier(identifier);
+	}
+
+	@Benchmark
+	public int parseSerialBytes() {
+		return Airac.parseSerial(identifierBytes, 0);
+	}
+
+	@Benchmark
+	public boolean isValidIdentifier() {
+		return Airac.isValidIdentifier(identifierBytes, 0);
+	}
+
+	@Benchmark
+	public Airac fromIdentifierCode() {
+		return Airac.fromIdentifierCode(identifierCode);
+	}
+
+	@Benchmark
+	public int getYear() {
+		return airac.getYear();
+	}
+
+	@Benchmark
+	public int getOrdinal() {
+		return airac.getOrdinal();
+	}
+
+	@Benchmark
+	public String toShortString() {
+		return airac.toString();
+	}
+
+	@Benchmark
+	public String toLongString() {
+		return airac.toLongString();
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ko_sys.av.airac.benchmarks;
+
+import com.ko_sys.av.airac.Airac;
+import com.ko_sys.av.airac.AiracBulk;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares per element conversion of epoch milliseconds with the bulk conversion of {@link AiracBulk}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AiracBulkBenchmark {
+	@Param({"1000", "1000000"})
+	public int size;
+
+	private long[] millis;
+	private int[] serials;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(19010110L);
+		long from = Instant.parse("1990-01-01T00:00:00Z").toEpochMilli();
+		long to = Instant.parse("2030-01-01T00:00:00Z").toEpochMilli();
+		millis = new long[size];
+		for (int i = 0; i < size; i++) {
+			millis[i] = from + (long) (random.nextDouble() * (to - from));
+		}
+		serials = new int[size];
+	}
+
+	@Benchmark
+	public int[] perElementFromInstant() {
+		for (int i = 0; i < size; i++) {
+			serials[i] = Airac.fromInstant(Instant.ofEpochMilli(millis[i])).getSerial();
+		}
+		return serials;
+	}
+
+	@Benchmark
+	public int[] perElementFromEpochMilli() {
+		for (int i = 0; i < size; i++) {
+			serials[i] = Airac.fromEpochMilli(millis[i]).getSerial();
+		}
+		return serials;
+	}
+
+	@Benchmark
+	public int[] bulk() {
+		AiracBulk.serialsOfEpochMillis(millis, 0, serials, 0, size);
+		return serials;
+	}
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ko_sys.av.airac.benchmarks;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * The benchmarks of {@link AiracBenchmark}, run concurrently by as many threads as there are available processors.
+ */
+@State(Scope.Benchmark)
+@Threads(Threads.MAX)
+public class AiracMultiThreadedBenchmark extends AiracBenchmark {
+}
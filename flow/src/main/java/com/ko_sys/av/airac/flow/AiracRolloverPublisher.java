@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac.flow;
+
+import com.ko_sys.av.airac.Airac;
+import com.ko_sys.av.airac.AiracScheduler;
+import net.jcip.annotations.ThreadSafe;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+
+/**
+ * A {@link Flow.Publisher} of AIRAC cycles that publishes each cycle once, when it becomes effective or a pre-roll
+ * time before.
+ * <p>
+ * Instead of polling the current cycle, subscribers are notified by an {@link AiracScheduler}, which sleeps until the
+ * next trigger time. Publishers created without a scheduler share a single scheduler on the system clock in UTC, and
+ * hence a single timer thread. A pre-roll notification and the notification at the effective date are two
+ * publishers, e.g.:
+ * <pre>
+ * AiracRolloverPublisher inOneWeek = new AiracRolloverPublisher(Duration.ofDays(7));
+ * AiracRolloverPublisher effective = new AiracRolloverPublisher(Duration.ZERO);
+ * </pre>
+ * <p>
+ * Cycles are offered to the subscribers without blocking the timer; a cycle is dropped for a subscriber whose buffer
+ * is full. Subscribers only receive the cycles that are published after they subscribed. On Java 8 register a
+ * {@link java.util.function.Consumer} with {@link AiracScheduler#schedule(Duration, java.util.function.Consumer)}
+ * instead, which is what this class does.
+ *
+ * @since 1.0.1
+ */
+@ThreadSafe
+public final class AiracRolloverPublisher implements Flow.Publisher<Airac>, AutoCloseable {
+	private final SubmissionPublisher<Airac> publisher;
+	private final AiracScheduler.Registration registration;
+
+	/**
+	 * Creates a publisher on the shared scheduler that publishes on the {@link ForkJoinPool#commonPool()}.
+	 *
+	 * @param preRoll the time before the effective dates at which the cycles are published, not null and not negative
+	 * @throws IllegalArgumentException if {@code preRoll} is negative
+	 */
+	public AiracRolloverPublisher(@NotNull Duration preRoll) {
+		this(Shared.scheduler, preRoll, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+	}
+
+	/**
+	 * Creates a publisher.
+	 *
+	 * @param scheduler         the scheduler that triggers the publication, not null
+	 * @param preRoll           the time before the effective dates at which the cycles are published, not null and
+	 *                          not negative
+	 * @param executor          the executor delivering cycles to subscribers, not null
+	 * @param maxBufferCapacity the maximum number of cycles buffered per subscriber
+	 * @throws IllegalArgumentException if {@code preRoll} is negative or {@code maxBufferCapacity} is not positive
+	 * @throws IllegalStateException    if the scheduler has been closed
+	 */
+	public AiracRolloverPublisher(@NotNull AiracScheduler scheduler, @NotNull Duration preRoll,
+								  @NotNull Executor executor, int maxBufferCapacity) {
+		Objects.requireNonNull(scheduler, "scheduler");
+		this.publisher = new SubmissionPublisher<>(executor, maxBufferCapacity);
+		try {
+			this.registration = scheduler.schedule(preRoll, this::publish);
+		} catch (RuntimeException e) {
+			publisher.close();
+			throw e;
+		}
+	}
+
+	@Override
+	public void subscribe(@NotNull Flow.Subscriber<? super Airac> subscriber) {
+		publisher.subscribe(subscriber);
+	}
+
+	/**
+	 * Returns the number of current subscribers.
+	 *
+	 * @return the number of current subscribers
+	 */
+	public int getNumberOfSubscribers() {
+		return publisher.getNumberOfSubscribers();
+	}
+
+	/**
+	 * Stops publishing and completes all subscribers.
+	 */
+	@Override
+	public void close() {
+		registration.cancel();
+		publisher.close();
+	}
+
+	private void publish(@NotNull Airac airac) {
+		try {
+			publisher.offer(airac, null);
+		} catch (IllegalStateException e) {
+			// closed concurrently; the action may already have been handed over when the registration was cancelled
+		}
+	}
+
+	/**
+	 * Lazily started scheduler that is shared by all publishers created without a scheduler.
+	 */
+	private static final class Shared {
+		// the actions only offer to publishers, which does not block, so they can run on the timer thread
+		static final AiracScheduler scheduler = new AiracScheduler(Clock.systemUTC(), Runnable::run);
+
+		static {
+			scheduler.start();
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac.flow;
+
+import com.ko_sys.av.airac.AiracWindow;
+import com.ko_sys.av.airac.AiracWindowOperator;
+import net.jcip.annotations.ThreadSafe;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@link Flow.Processor} that aggregates timestamped events in tumbling windows aligned to AIRAC cycles and
+ * publishes the closed windows.
+ * <p>
+ * Events are passed to an {@link AiracWindowOperator}. The watermark follows the greatest timestamp seen so far, less
+ * a maximum out-of-orderness; events that are older than that are late and subject to the allowed lateness of the
+ * operator. When the upstream completes, all open windows are published before this processor completes. If the
+ * timestamp function or the operator throws, the upstream is cancelled and the subscribers receive the exception.
+ * <p>
+ * The processor requests one event at a time and only requests the next one after the windows closed by the
+ * current one have been submitted. As {@link SubmissionPublisher#submit(Object)} blocks while a subscriber's buffer
+ * is full, slow subscribers push back on the upstream. Errors of the upstream are passed on to the subscribers.
+ *
+ * @param <T> the type of the events
+ * @param <R> the type of the results of the windows
+ * @since 1.0.1
+ */
+@ThreadSafe
+public class AiracWindowProcessor<T, R> extends SubmissionPublisher<AiracWindow<R>>
+		implements Flow.Processor<T, AiracWindow<R>> {
+	private final AiracWindowOperator<? super T, ?, R> operator;
+	private final ToLongFunction<? super T> timestamp;
+	private final long maxOutOfOrderMillis;
+	// accessed by the upstream only, which signals serially
+	private Flow.Subscription subscription;
+	private boolean done;
+	private long maxTimestamp = Long.MIN_VALUE;
+
+	/**
+	 * Creates a processor that publishes on the {@link ForkJoinPool#commonPool()} with buffers of
+	 * {@link Flow#defaultBufferSize()} windows per subscriber.
+	 *
+	 * @param operator          the operator that aggregates the events, not null and not used elsewhere
+	 * @param timestamp         returns the timestamp of an event as milliseconds since 1970-01-01T00:00:00Z, not null
+	 * @param maxOutOfOrderness the lag of the watermark behind the greatest timestamp, not null and not negative
+	 * @throws IllegalArgumentException if {@code maxOutOfOrderness} is negative
+	 */
+	public AiracWindowProcessor(@NotNull AiracWindowOperator<? super T, ?, R> operator,
+								@NotNull ToLongFunction<? super T> timestamp, @NotNull Duration maxOutOfOrderness) {
+		this(operator, timestamp, maxOutOfOrderness, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+	}
+
+	/**
+	 * Creates a processor.
+	 *
+	 * @param operator          the operator that aggregates the events, not null and not used elsewhere
+	 * @param timestamp         returns the timestamp of an event as milliseconds since 1970-01-01T00:00:00Z, not null
+	 * @param maxOutOfOrderness the lag of the watermark behind the greatest timestamp, not null and not negative
+	 * @param executor          the executor delivering windows to subscribers, not null
+	 * @param maxBufferCapacity the maximum number of windows buffered per subscriber
+	 * @throws IllegalArgumentException if {@code maxOutOfOrderness} is negative or {@code maxBufferCapacity} is not
+	 *                                  positive
+	 */
+	public AiracWindowProcessor(@NotNull AiracWindowOperator<? super T, ?, R> operator,
+								@NotNull ToLongFunction<? super T> timestamp, @NotNull Duration maxOutOfOrderness,
+								@NotNull Executor executor, int maxBufferCapacity) {
+		super(executor, maxBufferCapacity);
+		if (maxOutOfOrderness.isNegative()) {
+			throw new IllegalArgumentException("negative out-of-orderness: " + maxOutOfOrderness);
+		}
+		this.operator = Objects.requireNonNull(operator, "operator");
+		this.timestamp = Objects.requireNonNull(timestamp, "timestamp");
+		this.maxOutOfOrderMillis = maxOutOfOrderness.toMillis();
+	}
+
+	@Override
+	public void onSubscribe(@NotNull Flow.Subscription subscription) {
+		Objects.requireNonNull(subscription, "subscription");
+		if (this.subscription != null) {
+			subscription.cancel();
+			return;
+		}
+		this.subscription = subscription;
+		subscription.request(1);
+	}
+
+	@Override
+	public void onNext(@NotNull T item) {
+		if (done) {
+			return;
+		}
+		try {
+			final long epochMilli = timestamp.applyAsLong(item);
+			operator.onEvent(epochMilli, item);
+			if (epochMilli > maxTimestamp) {
+				maxTimestamp = epochMilli;
+				final long watermark = epochMilli < Long.MIN_VALUE + maxOutOfOrderMillis
+						? Long.MIN_VALUE : epochMilli - maxOutOfOrderMillis;
+				operator.advanceWatermark(watermark, this::submit);
+			}
+		} catch (RuntimeException e) {
+			done = true;
+			subscription.cancel();
+			closeExceptionally(e);
+			return;
+		}
+		subscription.request(1);
+	}
+
+	@Override
+	public void onError(@NotNull Throwable throwable) {
+		if (done) {
+			return;
+		}
+		done = true;
+		closeExceptionally(throwable);
+	}
+
+	@Override
+	public void onComplete() {
+		if (done) {
+			return;
+		}
+		done = true;
+		try {
+			operator.flush(this::submit);
+		} catch (RuntimeException e) {
+			closeExceptionally(e);
+			return;
+		}
+		close();
+	}
+}
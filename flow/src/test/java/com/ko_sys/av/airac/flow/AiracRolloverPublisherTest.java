@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac.flow;
+
+import com.ko_sys.av.airac.Airac;
+import com.ko_sys.av.airac.AiracScheduler;
+import com.ko_sys.av.airac.MutableClock;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class AiracRolloverPublisherTest {
+	/**
+	 * Collects all items and signals the first one.
+	 */
+	private static class Collecting implements Flow.Subscriber<Airac> {
+		final List<Airac> items = new CopyOnWriteArrayList<>();
+		final CompletableFuture<Airac> first = new CompletableFuture<>();
+		final CompletableFuture<List<Airac>> done = new CompletableFuture<>();
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			subscription.request(Long.MAX_VALUE);
+		}
+
+		@Override
+		public void onNext(Airac item) {
+			items.add(item);
+			first.complete(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			done.completeExceptionally(throwable);
+		}
+
+		@Override
+		public void onComplete() {
+			done.complete(items);
+		}
+	}
+
+	@Test
+	public void testRollover() throws Exception {
+		final Airac cycle = Airac.fromIdentifier("2403");
+		final MutableClock clock = new MutableClock(cycle.getPrevious().getEffective());
+		try (AiracScheduler scheduler = new AiracScheduler(clock, Runnable::run);
+			 AiracRolloverPublisher publisher = new AiracRolloverPublisher(scheduler, Duration.ZERO,
+					 ForkJoinPool.commonPool(), 16)) {
+			final Collecting subscriber = new Collecting();
+			publisher.subscribe(subscriber);
+
+			clock.set(cycle.getEffective());
+			scheduler.start();
+			assertEquals(cycle, subscriber.first.get(10, TimeUnit.SECONDS));
+
+			publisher.close();
+			assertEquals(1, subscriber.done.get(10, TimeUnit.SECONDS).size());
+		}
+	}
+
+	@Test
+	public void testPreRoll() throws Exception {
+		final Airac cycle = Airac.fromIdentifier("2403");
+		final MutableClock clock = new MutableClock(cycle.getPrevious().getEffective());
+		try (AiracScheduler scheduler = new AiracScheduler(clock, Runnable::run);
+			 AiracRolloverPublisher publisher = new AiracRolloverPublisher(scheduler, Duration.ofDays(7),
+					 ForkJoinPool.commonPool(), 16)) {
+			final Collecting subscriber = new Collecting();
+			publisher.subscribe(subscriber);
+
+			clock.set(cycle.getEffective().minus(Duration.ofDays(7)));
+			scheduler.start();
+			assertEquals(cycle, subscriber.first.get(10, TimeUnit.SECONDS));
+		}
+	}
+
+	@Test
+	public void testCloseWhileFiring() throws Exception {
+		final Airac cycle = Airac.fromIdentifier("2403");
+		final MutableClock clock = new MutableClock(cycle.getPrevious().getEffective());
+		final AtomicReference<AiracRolloverPublisher> publisher = new AtomicReference<>();
+		final CompletableFuture<Void> fired = new CompletableFuture<>();
+		// closes the publisher after the action has been handed over, but before it publishes
+		final Executor closing = action -> {
+			publisher.get().close();
+			try {
+				action.run();
+				fired.complete(null);
+			} catch (RuntimeException e) {
+				fired.completeExceptionally(e);
+			}
+		};
+		try (AiracScheduler scheduler = new AiracScheduler(clock, closing)) {
+			publisher.set(new AiracRolloverPublisher(scheduler, Duration.ZERO, ForkJoinPool.commonPool(), 16));
+			final Collecting subscriber = new Collecting();
+			publisher.get().subscribe(subscriber);
+
+			clock.set(cycle.getEffective());
+			scheduler.start();
+			fired.get(10, TimeUnit.SECONDS);
+			assertTrue(subscriber.done.get(10, TimeUnit.SECONDS).isEmpty());
+		}
+	}
+
+	@Test
+	public void testSharedScheduler() throws Exception {
+		try (AiracRolloverPublisher publisher = new AiracRolloverPublisher(Duration.ofDays(7))) {
+			final Collecting subscriber = new Collecting();
+			publisher.subscribe(subscriber);
+			assertEquals(1, publisher.getNumberOfSubscribers());
+
+			publisher.close();
+			assertNotNull(subscriber.done.get(10, TimeUnit.SECONDS));
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testClosedScheduler() {
+		final AiracScheduler scheduler = new AiracScheduler(new MutableClock(Airac.fromIdentifier("2403").getEffective()),
+				Runnable::run);
+		scheduler.close();
+		new AiracRolloverPublisher(scheduler, Duration.ZERO, ForkJoinPool.commonPool(), 16);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativePreRoll() {
+		new AiracRolloverPublisher(Duration.ofDays(-1));
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac.flow;
+
+import com.ko_sys.av.airac.Airac;
+import com.ko_sys.av.airac.AiracWindow;
+import com.ko_sys.av.airac.AiracWindowOperator;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class AiracWindowProcessorTest {
+	private static long millis(String identifier, long plusHours) {
+		return Airac.fromIdentifier(identifier).getEffective().plus(plusHours, ChronoUnit.HOURS).toEpochMilli();
+	}
+
+	/**
+	 * Collects all items and requests them one at a time.
+	 */
+	private static class Collecting<T> implements Flow.Subscriber<T> {
+		final List<T> items = new ArrayList<>();
+		final CompletableFuture<List<T>> done = new CompletableFuture<>();
+		Flow.Subscription subscription;
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+			subscription.request(1);
+		}
+
+		@Override
+		public void onNext(T item) {
+			items.add(item);
+			subscription.request(1);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			done.completeExceptionally(throwable);
+		}
+
+		@Override
+		public void onComplete() {
+			done.complete(items);
+		}
+	}
+
+	@Test
+	public void testWindows() throws Exception {
+		AiracWindowProcessor<Long, Long> processor = new AiracWindowProcessor<>(
+				new AiracWindowOperator<>(Collectors.counting(), 0), Long::longValue, Duration.ofDays(1));
+		Collecting<AiracWindow<Long>> subscriber = new Collecting<>();
+		processor.subscribe(subscriber);
+
+		try (SubmissionPublisher<Long> source = new SubmissionPublisher<>()) {
+			source.subscribe(processor);
+			source.submit(millis("1605", 1));
+			source.submit(millis("1605", 2));
+			source.submit(millis("1606", 1));
+			// out of order, but within the lag of the watermark
+			source.submit(millis("1605", 3));
+			source.submit(millis("1606", 25));
+			// too late
+			source.submit(millis("1605", 4));
+			source.submit(millis("1608", 0));
+		}
+
+		assertEquals(Arrays.asList(
+				new AiracWindow<>(Airac.fromIdentifier("1605"), 3L),
+				new AiracWindow<>(Airac.fromIdentifier("1606"), 2L),
+				new AiracWindow<>(Airac.fromIdentifier("1608"), 1L)),
+				subscriber.done.get(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testBackpressure() throws Exception {
+		AiracWindowProcessor<Long, Long> processor = new AiracWindowProcessor<>(
+				new AiracWindowOperator<>(Collectors.counting(), 0), Long::longValue, Duration.ZERO,
+				ForkJoinPool.commonPool(), 1);
+		Collecting<AiracWindow<Long>> subscriber = new Collecting<AiracWindow<Long>>() {
+			@Override
+			public void onSubscribe(Flow.Subscription subscription) {
+				// request nothing until the test says so
+				this.subscription = subscription;
+			}
+		};
+		processor.subscribe(subscriber);
+
+		AtomicLong requested = new AtomicLong();
+		processor.onSubscribe(new Flow.Subscription() {
+			@Override
+			public void request(long n) {
+				requested.addAndGet(n);
+			}
+
+			@Override
+			public void cancel() {
+			}
+		});
+
+		int cycles = 100;
+		Thread upstream = new Thread(() -> {
+			Airac airac = Airac.fromIdentifier("1601");
+			for (int i = 0; i < cycles; i++, airac = airac.getNext()) {
+				processor.onNext(airac.getEffectiveEpochMilli());
+			}
+			processor.onComplete();
+		});
+		upstream.start();
+
+		// the upstream blocks as soon as the buffer of the subscriber is full
+		upstream.join(500);
+		assertTrue(upstream.isAlive());
+		assertTrue(requested.get() < cycles);
+
+		subscriber.subscription.request(Long.MAX_VALUE);
+		upstream.join(10_000);
+		assertFalse(upstream.isAlive());
+		assertEquals(cycles, subscriber.done.get(10, TimeUnit.SECONDS).size());
+		assertEquals(cycles + 1, requested.get());
+	}
+
+	@Test
+	public void testErrorOfTimestamp() throws Exception {
+		AiracWindowProcessor<Long, Long> processor = new AiracWindowProcessor<>(
+				new AiracWindowOperator<>(Collectors.counting(), 0), l -> {
+			throw new IllegalStateException("boom");
+		}, Duration.ZERO);
+		Collecting<AiracWindow<Long>> subscriber = new Collecting<>();
+		processor.subscribe(subscriber);
+
+		try (SubmissionPublisher<Long> source = new SubmissionPublisher<>()) {
+			source.subscribe(processor);
+			source.submit(0L);
+		}
+		try {
+			subscriber.done.get(10, TimeUnit.SECONDS);
+			fail("expected failure");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+	}
+}
@@ -20,15 +20,23 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Arrays;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * An AIRAC cycle.
@@ -57,9 +65,14 @@ import java.util.regex.Pattern;
  * <p>
  * However this is a "wontfix", because that may just confuse users.
  * <p>
- * This implementation will silently produce bogus data before the internal epoch of 1901-01-10. Contrary to the
- * original Golang implementation this class does not appear to have a significant upper time boundary. At least
- * values corresponding to dates between 1901-01-10 up to year 2200 are plausible.
+ * Cycles before the internal epoch of 1901-01-10 are extrapolated backwards, as if the schedule of effective dates had
+ * always been in place. Contrary to the original Golang implementation this class does not have a significant time
+ * boundary: cycles are represented by {@code int} serials that cover some 160 million years around the epoch, and
+ * {@link AiracSerials} calculates on {@code long} serials across the full range of {@link Instant}.
+ * <p>
+ * As a {@link TemporalAccessor} a cycle provides its effective date, i.e. {@link ChronoField#EPOCH_DAY},
+ * {@link ChronoField#YEAR}, {@link ChronoField#MONTH_OF_YEAR} and {@link ChronoField#DAY_OF_MONTH}, as well as the
+ * fields of {@link AiracFields}, so that it can be formatted by a {@link java.time.format.DateTimeFormatter}.
  * <p>
  * This class only provides calculations on effective dates, not publication or reception dates etc. Although effective
  * dates are clearly defined and are consistent at least between 1998 until 2020, the derivative dates changed
@@ -68,7 +81,7 @@ import java.util.regex.Pattern;
  * @since 1.8
  */
 @Immutable
-public class Airac implements Comparable<Airac>, Serializable {
+public class Airac implements Comparable<Airac>, Serializable, TemporalAccessor {
 	/**
 	 * ICAO DOC 8126, 6th edition (2003); Paragraph 2.6.2 b):
 	 * the AIRAC effective dates must be in accordance
@@ -92,9 +105,52 @@ public class Airac implements Comparable<Airac>, Serializable {
 	private static final long serialVersionUID = 19010110L;
 
 	/**
-	 * Pattern of AIRAC cycle identifiers (yyoo).
+	 * Serial returned by the {@code parseSerial} methods for identifiers that are malformed or whose implied cycle
+	 * does not exist.
+	 */
+	public static final int invalidSerial = Integer.MIN_VALUE;
+
+	/**
+	 * Length of a cycle in days.
+	 */
+	static final int cycleDays = 28;
+	/**
+	 * The {@code epoch} as days since 1970-01-01.
+	 */
+	static final long epochDay = Math.floorDiv(epoch.getEpochSecond(), 86400);
+	/**
+	 * The {@code epoch} as seconds since 1970-01-01T00:00:00Z.
+	 */
+	static final long epochSecond = epoch.getEpochSecond();
+	/**
+	 * Length of a cycle in seconds.
+	 */
+	static final long cycleSeconds = cycleDays * 86400L;
+
+	/**
+	 * Serials of the cycles of the years 1964 until 2063, indexed by the identifier as an integer, e.g. 1605 for
+	 * "1605". Identifiers that do not represent a cycle map to -1.
+	 */
+	private static final short[] identifierSerials = new short[10000];
+	/**
+	 * Bit set of the identifiers as integers that represent a cycle, a compact copy of the valid entries of
+	 * {@code identifierSerials} for validation.
 	 */
-	private static final Pattern identifierPattern = Pattern.compile("^(\\d{2})(\\d{2})$");
+	private static final long[] identifierBits = new long[(10000 + 63) / 64];
+
+	static {
+		Arrays.fill(identifierSerials, (short) -1);
+		for (int yy = 0; yy < 100; yy++) {
+			final int year = identifierYear(yy);
+			final int first = (int) firstSerialOfYear(year);
+			final int cycles = (int) firstSerialOfYear(year + 1) - first;
+			for (int ordinal = 1; ordinal <= cycles; ordinal++) {
+				final int yyoo = yy * 100 + ordinal;
+				identifierSerials[yyoo] = (short) (first + ordinal - 1);
+				identifierBits[yyoo >>> 6] |= 1L << yyoo;
+			}
+		}
+	}
 
 	/**
 	 * Internal serial of this cycle, relative to {@code epoch}.
@@ -110,20 +166,127 @@ public class Airac implements Comparable<Airac>, Serializable {
 		this.serial = serial;
 	}
 
+	/**
+	 * Obtains the canonical instance of {@code Airac} with a {@code serial} relative to the {@code epoch}.
+	 * <p>
+	 * Cycles between the {@code epoch} and the year 2200 are shared instances, others are created on demand.
+	 *
+	 * @param serial the {@code serial} relative to the {@code epoch}
+	 * @return an instance of {@code Airac} with the {@code serial}
+	 */
+	@NotNull
+	static Airac of(int serial) {
+		if (!Instances.covers(serial)) {
+			return new Airac(serial);
+		}
+		Airac airac = Instances.cache[serial];
+		if (airac == null) {
+			// racing threads may create duplicates, which is harmless, because instances are immutable
+			airac = new Airac(serial);
+			Instances.cache[serial] = airac;
+		}
+		return airac;
+	}
+
 	/**
 	 * Obtains an instance of {@code Airac} that occurred at {@link Instant}.
 	 * <p>
-	 * Will silently produce bogus data, when instant is before the internal epoch of 1901-01-10.
+	 * Instants before the internal epoch of 1901-01-10 yield the cycles before the epoch, as if the schedule of
+	 * effective dates had always been in place.
 	 *
 	 * @param instant the point in time at which the AIRAC cycle of interest was current, not null
 	 * @return an instance of {@code Airac} that occurred at {@link Instant}
+	 * @throws ArithmeticException if the cycle is beyond the range of {@code int} serials, i.e. more than some 160
+	 *                             million years away from the epoch; see {@link AiracSerials} for that range
 	 */
 	@NotNull
 	public static Airac fromInstant(Instant instant) {
 		Objects.requireNonNull(instant, "instant");
-		Duration between = Duration.between(epoch, instant);
-		int cycles = (int) (between.getSeconds() / durationCycle.getSeconds());
-		return new Airac(cycles);
+		return fromEpochSecond(instant.getEpochSecond());
+	}
+
+	/**
+	 * Obtains an instance of {@code Airac} that occurred at a point in time given as milliseconds since
+	 * 1970-01-01T00:00:00Z.
+	 * <p>
+	 * Like {@link #fromInstant(Instant)} this is valid before the internal epoch of 1901-01-10.
+	 *
+	 * @param epochMilli the point in time at which the AIRAC cycle of interest was current
+	 * @return an instance of {@code Airac} that occurred at the point in time
+	 * @throws ArithmeticException if the cycle is beyond the range of {@code int} serials, i.e. more than some 160
+	 *                             million years away from the epoch; see {@link AiracSerials} for that range
+	 */
+	@NotNull
+	public static Airac fromEpochMilli(long epochMilli) {
+		return of(serialOfEpochMilli(epochMilli));
+	}
+
+	/**
+	 * Obtains an instance of {@code Airac} that occurred at a point in time given as seconds since
+	 * 1970-01-01T00:00:00Z.
+	 * <p>
+	 * Like {@link #fromInstant(Instant)} this is valid before the internal epoch of 1901-01-10.
+	 *
+	 * @param epochSecond the point in time at which the AIRAC cycle of interest was current
+	 * @return an instance of {@code Airac} that occurred at the point in time
+	 * @throws ArithmeticException if the cycle is beyond the range of {@code int} serials, i.e. more than some 160
+	 *                             million years away from the epoch; see {@link AiracSerials} for that range
+	 */
+	@NotNull
+	public static Airac fromEpochSecond(long epochSecond) {
+		return of(serialOfEpochSecond(epochSecond));
+	}
+
+	/**
+	 * Obtains an instance of {@code Airac} that was current on a day given as days since 1970-01-01.
+	 * <p>
+	 * Like {@link #fromInstant(Instant)} this is valid before the internal epoch of 1901-01-10.
+	 *
+	 * @param epochDay the day at which the AIRAC cycle of interest was current
+	 * @return an instance of {@code Airac} that was current on the day
+	 * @throws ArithmeticException if the cycle is beyond the range of {@code int} serials, i.e. more than some 160
+	 *                             million years away from the epoch; see {@link AiracSerials} for that range
+	 */
+	@NotNull
+	public static Airac fromEpochDay(long epochDay) {
+		return of(Math.toIntExact(AiracSerials.ofEpochDay(epochDay)));
+	}
+
+	/**
+	 * Obtains an instance of {@code Airac} by its serial, i.e. the number of cycles since the internal epoch of
+	 * 1901-01-10.
+	 *
+	 * @param serial the serial of the AIRAC cycle
+	 * @return an instance of {@code Airac} with the serial
+	 * @see #getSerial()
+	 */
+	@NotNull
+	public static Airac fromSerial(int serial) {
+		return of(serial);
+	}
+
+	/**
+	 * Returns the serial of the cycle that was current at a point in time given as seconds since
+	 * 1970-01-01T00:00:00Z.
+	 *
+	 * @param epochSecond the point in time
+	 * @return the serial of the cycle
+	 * @throws ArithmeticException if the serial overflows an {@code int}
+	 */
+	static int serialOfEpochSecond(long epochSecond) {
+		return Math.toIntExact(AiracSerials.ofEpochSecond(epochSecond));
+	}
+
+	/**
+	 * Returns the serial of the cycle that was current at a point in time given as milliseconds since
+	 * 1970-01-01T00:00:00Z.
+	 *
+	 * @param epochMilli the point in time
+	 * @return the serial of the cycle
+	 * @throws ArithmeticException if the serial overflows an {@code int}
+	 */
+	static int serialOfEpochMilli(long epochMilli) {
+		return serialOfEpochSecond(Math.floorDiv(epochMilli, 1000));
 	}
 
 	/**
@@ -132,7 +295,8 @@ public class Airac implements Comparable<Airac>, Serializable {
 	 * The String {@code yyoo} must consist of the last two digits of the year and the ordinal, each with leading zeros.
 	 * This works for years between 1964 and 2063. Identifiers between "6401" and "9913" are interpreted as AIRAC cycles
 	 * between the years 1964 and 1999 inclusive. AIRAC cycles between "0001" and "6313" are interpreted as AIRAC cycles
-	 * between the years 2000 and 2063 inclusive.
+	 * between the years 2000 and 2063 inclusive. Any other characters, including a trailing line terminator, are
+	 * rejected.
 	 *
 	 * @param yyoo the identifier of an AIRAC cycle ({@code YYOO}), not null.
 	 * @return An instance of an AIRAC cycle that is represented by the identifier.
@@ -144,28 +308,338 @@ public class Airac implements Comparable<Airac>, Serializable {
 	public static Airac fromIdentifier(@Nullable String yyoo) {
 		Objects.requireNonNull(yyoo);
 
-		Matcher m = identifierPattern.matcher(yyoo);
-		if (!m.find()) {
-			throw new IllegalArgumentException("illegal AIRAC identifier: " + yyoo);
+		if (yyoo.length() != 4) {
+			throw illegalIdentifier(yyoo);
 		}
+		final int serial = serialOfIdentifier(yyoo.charAt(0), yyoo.charAt(1), yyoo.charAt(2), yyoo.charAt(3));
+		if (serial == invalidSerial) {
+			throw illegalIdentifier(yyoo);
+		}
+		return of(serial);
+	}
 
-		final int year;
-		final int yy = Integer.parseInt(m.group(1));
-		if (yy > 63) {
-			year = 1900 + yy;
-		} else {
-			year = 2000 + yy;
+	/**
+	 * Obtains an instance of {@code Airac} that is represented by the identifier at {@code start} of a character
+	 * sequence, without copying it out of the sequence first.
+	 * <p>
+	 * The four characters at {@code start} must be an identifier as described at {@link #fromIdentifier(String)}.
+	 * Characters before and after them are ignored.
+	 *
+	 * @param cs    the character sequence, not null
+	 * @param start the index of the identifier
+	 * @return An instance of an AIRAC cycle that is represented by the identifier.
+	 * @throws IllegalArgumentException  if the identifier is malformed or the implied cycle does not exist
+	 * @throws IndexOutOfBoundsException if there are less than four characters at {@code start}
+	 */
+	@NotNull
+	public static Airac fromIdentifier(@NotNull CharSequence cs, int start) {
+		final int serial = parseSerial(cs, start);
+		if (serial == invalidSerial) {
+			throw illegalIdentifier(cs.subSequence(start, start + 4).toString());
 		}
-		final int ordinal = Integer.parseInt(m.group(2));
+		return of(serial);
+	}
 
-		Airac lastAiracOfPreviousYear = fromInstant(Instant.from(ZonedDateTime.of(year - 1, 12, 31, 0, 0, 0, 0, UTC)));
-		Airac airac = new Airac(lastAiracOfPreviousYear.serial + ordinal);
+	/**
+	 * Obtains an instance of {@code Airac} that is represented by the ASCII encoded identifier at offset {@code off}
+	 * of a byte array, without decoding it into a {@link String} first.
+	 *
+	 * @param src the byte array, not null
+	 * @param off the offset of the identifier
+	 * @return An instance of an AIRAC cycle that is represented by the identifier.
+	 * @throws IllegalArgumentException  if the identifier is malformed or the implied cycle does not exist
+	 * @throws IndexOutOfBoundsException if there are less than four bytes at {@code off}
+	 * @see #fromIdentifier(CharSequence, int)
+	 */
+	@NotNull
+	public static Airac fromIdentifier(@NotNull byte[] src, int off) {
+		final int serial = parseSerial(src, off);
+		if (serial == invalidSerial) {
+			throw illegalIdentifier(new String(src, off, 4, StandardCharsets.ISO_8859_1));
+		}
+		return of(serial);
+	}
 
-		if (airac.getYear() != year) {
-			throw new IllegalArgumentException(String.format("year %d does not have %d cycles", year, ordinal));
+	/**
+	 * Obtains an instance of {@code Airac} that is represented by the ASCII encoded identifier at the absolute
+	 * {@code index} of a heap or direct byte buffer, without decoding it into a {@link String} first. The position of
+	 * the buffer is not changed.
+	 *
+	 * @param src   the byte buffer, not null
+	 * @param index the index of the identifier
+	 * @return An instance of an AIRAC cycle that is represented by the identifier.
+	 * @throws IllegalArgumentException  if the identifier is malformed or the implied cycle does not exist
+	 * @throws IndexOutOfBoundsException if there are less than four bytes at {@code index} before the limit
+	 * @see #fromIdentifier(CharSequence, int)
+	 */
+	@NotNull
+	public static Airac fromIdentifier(@NotNull ByteBuffer src, int index) {
+		final int serial = parseSerial(src, index);
+		if (serial == invalidSerial) {
+			final char[] identifier = {
+					(char) (src.get(index) & 0xff), (char) (src.get(index + 1) & 0xff),
+					(char) (src.get(index + 2) & 0xff), (char) (src.get(index + 3) & 0xff)};
+			throw illegalIdentifier(new String(identifier));
 		}
+		return of(serial);
+	}
 
-		return airac;
+	/**
+	 * Obtains an instance of {@code Airac} that is represented by the identifier {@code yyoo} as an integer, e.g. 1605
+	 * for "1605" or 2001 for "2001".
+	 * <p>
+	 * This is the inverse of {@link #toIdentifierCode()} and works for the same years as {@link
+	 * #fromIdentifier(String)}. Decoding is a single table lookup.
+	 *
+	 * @param yyoo the identifier of an AIRAC cycle as an integer between 0 and 9999
+	 * @return An instance of an AIRAC cycle that is represented by the identifier.
+	 * @throws IllegalArgumentException if {@code yyoo} is out of range or the implied cycle does not exist
+	 */
+	@NotNull
+	public static Airac fromIdentifierCode(int yyoo) {
+		final int serial = serialOfIdentifierCode(yyoo);
+		if (serial == invalidSerial) {
+			if (yyoo < 0 || yyoo > 9999) {
+				throw new IllegalArgumentException("illegal AIRAC identifier: " + yyoo);
+			}
+			throw cycleDoesNotExist(yyoo);
+		}
+		return of(serial);
+	}
+
+	/**
+	 * Returns whether {@code yyoo} is an identifier that {@link #fromIdentifier(String)} accepts, without throwing or
+	 * allocating.
+	 *
+	 * @param yyoo the identifier of an AIRAC cycle ({@code YYOO}), may be null
+	 * @return true if {@code yyoo} is well-formed and the implied cycle exists
+	 */
+	@Contract("null -> false")
+	public static boolean isValidIdentifier(@Nullable CharSequence yyoo) {
+		return yyoo != null && yyoo.length() == 4
+				&& isValidIdentifierCode(identifierCodeOf(yyoo.charAt(0), yyoo.charAt(1), yyoo.charAt(2), yyoo.charAt(3)));
+	}
+
+	/**
+	 * Returns whether the four characters at {@code start} of a character sequence are an identifier that {@link
+	 * #fromIdentifier(String)} accepts, without throwing or allocating.
+	 *
+	 * @param cs    the character sequence, not null
+	 * @param start the index of the identifier
+	 * @return true if the identifier is well-formed and the implied cycle exists
+	 * @throws IndexOutOfBoundsException if there are less than four characters at {@code start}
+	 */
+	public static boolean isValidIdentifier(@NotNull CharSequence cs, int start) {
+		checkIdentifierBounds(cs.length(), start);
+		return isValidIdentifierCode(
+				identifierCodeOf(cs.charAt(start), cs.charAt(start + 1), cs.charAt(start + 2), cs.charAt(start + 3)));
+	}
+
+	/**
+	 * Returns whether the four ASCII encoded bytes at offset {@code off} of a byte array are an identifier that {@link
+	 * #fromIdentifier(String)} accepts, without throwing or allocating.
+	 *
+	 * @param src the byte array, not null
+	 * @param off the offset of the identifier
+	 * @return true if the identifier is well-formed and the implied cycle exists
+	 * @throws IndexOutOfBoundsException if there are less than four bytes at {@code off}
+	 */
+	public static boolean isValidIdentifier(@NotNull byte[] src, int off) {
+		checkIdentifierBounds(src.length, off);
+		return isValidIdentifierCode(identifierCodeOf(src[off], src[off + 1], src[off + 2], src[off + 3]));
+	}
+
+	/**
+	 * Returns whether the four ASCII encoded bytes at the absolute {@code index} of a byte buffer are an identifier
+	 * that {@link #fromIdentifier(String)} accepts, without throwing or allocating. The position of the buffer is not
+	 * changed.
+	 *
+	 * @param src   the byte buffer, not null
+	 * @param index the index of the identifier
+	 * @return true if the identifier is well-formed and the implied cycle exists
+	 * @throws IndexOutOfBoundsException if there are less than four bytes at {@code index} before the limit
+	 */
+	public static boolean isValidIdentifier(@NotNull ByteBuffer src, int index) {
+		checkIdentifierBounds(src.limit(), index);
+		return isValidIdentifierCode(
+				identifierCodeOf(src.get(index), src.get(index + 1), src.get(index + 2), src.get(index + 3)));
+	}
+
+	/**
+	 * Returns whether {@code yyoo} is an identifier as an integer that {@link #fromIdentifierCode(int)} accepts.
+	 *
+	 * @param yyoo the identifier of an AIRAC cycle as an integer
+	 * @return true if {@code yyoo} is between 0 and 9999 and the implied cycle exists
+	 */
+	public static boolean isValidIdentifierCode(int yyoo) {
+		return yyoo >= 0 && yyoo < 10000 && (identifierBits[yyoo >>> 6] & 1L << yyoo) != 0;
+	}
+
+	/**
+	 * Returns the serial of the AIRAC cycle that is represented by the identifier at {@code start} of a character
+	 * sequence, without allocating anything.
+	 * <p>
+	 * The four characters at {@code start} must be an identifier as described at {@link #fromIdentifier(String)}.
+	 * Characters before and after them are ignored.
+	 *
+	 * @param cs    the character sequence, not null
+	 * @param start the index of the identifier
+	 * @return the serial of the cycle, or {@link #invalidSerial} if the identifier is malformed or the implied cycle
+	 * does not exist
+	 * @throws IndexOutOfBoundsException if there are less than four characters at {@code start}
+	 * @see #getSerial()
+	 */
+	public static int parseSerial(@NotNull CharSequence cs, int start) {
+		checkIdentifierBounds(cs.length(), start);
+		return serialOfIdentifier(cs.charAt(start), cs.charAt(start + 1), cs.charAt(start + 2), cs.charAt(start + 3));
+	}
+
+	/**
+	 * Returns the serial of the AIRAC cycle that is represented by the ASCII encoded identifier at offset
+	 * {@code off} of a byte array, without allocating anything.
+	 *
+	 * @param src the byte array, not null
+	 * @param off the offset of the identifier
+	 * @return the serial of the cycle, or {@link #invalidSerial} if the identifier is malformed or the implied cycle
+	 * does not exist
+	 * @throws IndexOutOfBoundsException if there are less than four bytes at {@code off}
+	 * @see #parseSerial(CharSequence, int)
+	 */
+	public static int parseSerial(@NotNull byte[] src, int off) {
+		checkIdentifierBounds(src.length, off);
+		return serialOfIdentifier(src[off], src[off + 1], src[off + 2], src[off + 3]);
+	}
+
+	/**
+	 * Returns the serial of the AIRAC cycle that is represented by the ASCII encoded identifier at the absolute
+	 * {@code index} of a heap or direct byte buffer, without allocating anything. The position of the buffer is not
+	 * changed.
+	 *
+	 * @param src   the byte buffer, not null
+	 * @param index the index of the identifier
+	 * @return the serial of the cycle, or {@link #invalidSerial} if the identifier is malformed or the implied cycle
+	 * does not exist
+	 * @throws IndexOutOfBoundsException if there are less than four bytes at {@code index} before the limit
+	 * @see #parseSerial(CharSequence, int)
+	 */
+	public static int parseSerial(@NotNull ByteBuffer src, int index) {
+		checkIdentifierBounds(src.limit(), index);
+		return serialOfIdentifier(src.get(index), src.get(index + 1), src.get(index + 2), src.get(index + 3));
+	}
+
+	/**
+	 * Returns the serial of the cycle that is represented by the four characters of an identifier.
+	 *
+	 * @return the serial of the cycle, or {@code invalidSerial}
+	 */
+	private static int serialOfIdentifier(int c1, int c2, int c3, int c4) {
+		return serialOfIdentifierCode(identifierCodeOf(c1, c2, c3, c4));
+	}
+
+	/**
+	 * Returns the identifier as an integer that is represented by the four characters of an identifier.
+	 *
+	 * @return the identifier as an integer, or a negative value if a character is not an ASCII digit
+	 */
+	private static int identifierCodeOf(int c1, int c2, int c3, int c4) {
+		final int y1 = digit(c1), y2 = digit(c2), o1 = digit(c3), o2 = digit(c4);
+		if ((y1 | y2 | o1 | o2) < 0) {
+			return -1;
+		}
+		return y1 * 1000 + y2 * 100 + o1 * 10 + o2;
+	}
+
+	/**
+	 * Returns the serial of the cycle that is represented by the identifier as an integer.
+	 *
+	 * @return the serial of the cycle, or {@code invalidSerial}
+	 */
+	private static int serialOfIdentifierCode(int yyoo) {
+		if (yyoo < 0 || yyoo >= identifierSerials.length) {
+			return invalidSerial;
+		}
+		final int serial = identifierSerials[yyoo];
+		return serial < 0 ? invalidSerial : serial;
+	}
+
+	/**
+	 * Returns the exception for an identifier that is malformed or whose implied cycle does not exist.
+	 *
+	 * @param yyoo the identifier
+	 * @return the exception to throw
+	 */
+	@NotNull
+	private static IllegalArgumentException illegalIdentifier(@NotNull String yyoo) {
+		if (yyoo.length() != 4
+				|| (digit(yyoo.charAt(0)) | digit(yyoo.charAt(1)) | digit(yyoo.charAt(2)) | digit(yyoo.charAt(3))) < 0) {
+			return new IllegalArgumentException("illegal AIRAC identifier: " + yyoo);
+		}
+		return cycleDoesNotExist(Integer.parseInt(yyoo));
+	}
+
+	/**
+	 * Returns the exception for a well-formed identifier whose implied cycle does not exist.
+	 *
+	 * @param yyoo the identifier as an integer
+	 * @return the exception to throw
+	 */
+	@NotNull
+	private static IllegalArgumentException cycleDoesNotExist(int yyoo) {
+		return new IllegalArgumentException(
+				String.format("year %d does not have %d cycles", identifierYear(yyoo / 100), yyoo % 100));
+	}
+
+	private static void checkIdentifierBounds(int length, int index) {
+		if (index < 0 || index > length - 4) {
+			throw new IndexOutOfBoundsException(String.format("identifier at %d, length %d", index, length));
+		}
+	}
+
+	/**
+	 * Returns the year that the last two digits {@code yy} of an identifier refer to.
+	 *
+	 * @param yy the last two digits of a year
+	 * @return the year between 1964 and 2063
+	 */
+	private static int identifierYear(int yy) {
+		if (yy > 63) {
+			return 1900 + yy;
+		}
+		return 2000 + yy;
+	}
+
+	/**
+	 * Returns the serial of the first cycle that becomes effective in {@code year}.
+	 *
+	 * @param year the year
+	 * @return the serial of the first cycle of the year
+	 */
+	static long firstSerialOfYear(long year) {
+		return Math.floorDiv(firstDayOfYear(year) - 1 - epochDay, cycleDays) + 1;
+	}
+
+	/**
+	 * Returns the value of an ASCII digit.
+	 *
+	 * @param c the character or byte
+	 * @return the value of the digit, or a negative value if the character is not an ASCII digit
+	 */
+	private static int digit(int c) {
+		final int d = c - '0';
+		return d <= 9 ? d : -1;
+	}
+
+	/**
+	 * Returns the day of January 1st of the proleptic Gregorian {@code year}, counted in days since 1970-01-01.
+	 *
+	 * @param year the year
+	 * @return the epoch day of the first day of the year
+	 */
+	static long firstDayOfYear(long year) {
+		final long y = year - 1;
+		final long leapDays = Math.floorDiv(y, 4) - Math.floorDiv(y, 100) + Math.floorDiv(y, 400);
+		// there are 477 leap days in the years 1 until 1969
+		return 365 * (year - 1970) + leapDays - 477;
 	}
 
 	/**
@@ -175,7 +649,44 @@ public class Airac implements Comparable<Airac>, Serializable {
 	 */
 	@NotNull
 	public Instant getEffective() {
-		return epoch.plus(durationCycle.multipliedBy(serial));
+		return Instant.ofEpochSecond(getEffectiveEpochSecond());
+	}
+
+	/**
+	 * Returns the effective date of this AIRAC cycle as days since 1970-01-01.
+	 *
+	 * @return the effective date of this AIRAC cycle as epoch day
+	 */
+	public long getEffectiveEpochDay() {
+		return effectiveEpochDayOf(serial);
+	}
+
+	/**
+	 * Returns the effective date of this AIRAC cycle as seconds since 1970-01-01T00:00:00Z.
+	 *
+	 * @return the effective date of this AIRAC cycle as epoch second
+	 */
+	public long getEffectiveEpochSecond() {
+		return epochSecond + (long) serial * cycleSeconds;
+	}
+
+	/**
+	 * Returns the effective date of this AIRAC cycle as milliseconds since 1970-01-01T00:00:00Z.
+	 *
+	 * @return the effective date of this AIRAC cycle as epoch milli
+	 */
+	public long getEffectiveEpochMilli() {
+		return getEffectiveEpochSecond() * 1000;
+	}
+
+	/**
+	 * Returns the last second of this AIRAC cycle as seconds since 1970-01-01T00:00:00Z, i.e. one second before the
+	 * successor becomes effective.
+	 *
+	 * @return the last second of this AIRAC cycle as epoch second
+	 */
+	public long getExpiresEpochSecond() {
+		return getEffectiveEpochSecond() + cycleSeconds - 1;
 	}
 
 	/**
@@ -184,7 +695,7 @@ public class Airac implements Comparable<Airac>, Serializable {
 	 * @return the ordinal for this AIRAC cycle's identifier
 	 */
 	public int getOrdinal() {
-		return (getEffective().atZone(UTC).getDayOfYear() - 1) / 28 + 1;
+		return ordinalOf(serial);
 	}
 
 	/**
@@ -193,7 +704,179 @@ public class Airac implements Comparable<Airac>, Serializable {
 	 * @return the year for this AIRAC cycle's identifier
 	 */
 	public int getYear() {
-		return getEffective().atZone(UTC).getYear();
+		return yearOf(serial);
+	}
+
+	/**
+	 * Returns the identifier of this AIRAC cycle as an integer, e.g. 1605 for "1605" or 2001 for "2001".
+	 * <p>
+	 * Like the short representation of {@link #toString()} the identifier only carries the last two digits of the
+	 * year; it is the inverse of {@link #fromIdentifierCode(int)} for the years 1964 until 2063.
+	 *
+	 * @return the identifier of this AIRAC cycle as an integer
+	 */
+	public int toIdentifierCode() {
+		return identifierCodeOf(serial);
+	}
+
+	/**
+	 * Returns the serial of this AIRAC cycle, i.e. the number of cycles since the internal epoch of 1901-01-10.
+	 *
+	 * @return the serial of this AIRAC cycle
+	 * @see #fromSerial(int)
+	 */
+	public int getSerial() {
+		return serial;
+	}
+
+	/**
+	 * Returns the ordinal of the cycle with the {@code serial}.
+	 *
+	 * @param serial the serial of the cycle
+	 * @return the ordinal of the cycle
+	 */
+	static int ordinalOf(int serial) {
+		if (YearOrdinals.covers(serial)) {
+			return YearOrdinals.table[serial] & 0xf;
+		}
+		return AiracSerials.ordinal(serial);
+	}
+
+	/**
+	 * Returns the year of the cycle with the {@code serial}.
+	 *
+	 * @param serial the serial of the cycle
+	 * @return the year of the cycle
+	 */
+	static int yearOf(int serial) {
+		if (YearOrdinals.covers(serial)) {
+			return (YearOrdinals.table[serial] >>> 4) + 1901;
+		}
+		return AiracSerials.year(serial);
+	}
+
+	/**
+	 * Returns the identifier of the cycle with the {@code serial} as an integer, e.g. 1605 for "1605".
+	 *
+	 * @param serial the serial of the cycle
+	 * @return the identifier as an integer
+	 */
+	static int identifierCodeOf(int serial) {
+		return Math.floorMod(yearOf(serial), 100) * 100 + ordinalOf(serial);
+	}
+
+	/**
+	 * Returns the effective date of the cycle with the {@code serial} as days since 1970-01-01.
+	 *
+	 * @param serial the serial of the cycle
+	 * @return the effective date as epoch day
+	 */
+	static long effectiveEpochDayOf(int serial) {
+		return epochDay + (long) serial * cycleDays;
+	}
+
+	/**
+	 * Returns the proleptic Gregorian year of a day counted in days since 1970-01-01.
+	 *
+	 * @param epochDay the epoch day
+	 * @return the year of the epoch day
+	 */
+	static long yearOfEpochDay(long epochDay) {
+		// shift to a calendar that starts on March 1st of year 0, so that the leap day is the last day of a year
+		final long z = epochDay + 719468;
+		final long era = Math.floorDiv(z, 146097);
+		final long dayOfEra = z - era * 146097;
+		final long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+		final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		// March until December belong to the shifted year, January and February to the next one
+		return yearOfEra + era * 400 + (dayOfYear >= 306 ? 1 : 0);
+	}
+
+	/**
+	 * Returns the proleptic Gregorian date of a day counted in days since 1970-01-01 as a decimal number, e.g.
+	 * 20160428 for 2016-04-28.
+	 *
+	 * @param epochDay the epoch day
+	 * @return the date as {@code year * 10000 + month * 100 + day}
+	 */
+	static long dateOfEpochDay(long epochDay) {
+		// shift to a calendar that starts on March 1st of year 0, so that the leap day is the last day of a year
+		final long z = epochDay + 719468;
+		final long era = Math.floorDiv(z, 146097);
+		final long dayOfEra = z - era * 146097;
+		final long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+		final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		final long shiftedMonth = (5 * dayOfYear + 2) / 153;
+		final long day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+		// March until December belong to the shifted year, January and February to the next one
+		final long month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+		final long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+		return year * 10000 + month * 100 + day;
+	}
+
+	/**
+	 * Replaces this instance by its compact serialized form that only holds the serial.
+	 *
+	 * @return the serialized form of this AIRAC cycle
+	 */
+	private Object writeReplace() {
+		return new AiracSer(serial);
+	}
+
+	/**
+	 * Resolves instances deserialized from streams written before the compact serialized form to the canonical
+	 * instance.
+	 *
+	 * @return the canonical instance of this AIRAC cycle
+	 */
+	private Object readResolve() {
+		return of(serial);
+	}
+
+	/**
+	 * Lazily filled cache of the canonical instances of the cycles from the {@code epoch} until the year 2200.
+	 */
+	private static final class Instances {
+		static final Airac[] cache = new Airac[YearOrdinals.table.length];
+
+		static boolean covers(int serial) {
+			return serial >= 0 && serial < cache.length;
+		}
+	}
+
+	/**
+	 * Lazily filled caches of the representations of the cycles from the {@code epoch} until the year 2200.
+	 */
+	private static final class Strings {
+		static final String[] shortForms = new String[YearOrdinals.table.length];
+		static final String[] longForms = new String[YearOrdinals.table.length];
+
+		static boolean covers(int serial) {
+			return serial >= 0 && serial < shortForms.length;
+		}
+	}
+
+	/**
+	 * Lazily initialized table of the years and ordinals of the cycles from the {@code epoch} until the year 2200.
+	 * <p>
+	 * Each entry holds the year relative to 1901 in the upper bits and the ordinal in the lower four bits.
+	 */
+	private static final class YearOrdinals {
+		static final char[] table = new char[(int) firstSerialOfYear(2201)];
+
+		static {
+			int serial = 0;
+			for (int year = 1901; year <= 2200; year++) {
+				final int next = (int) firstSerialOfYear(year + 1);
+				for (int ordinal = 1; serial < next; ordinal++, serial++) {
+					table[serial] = (char) ((year - 1901) << 4 | ordinal);
+				}
+			}
+		}
+
+		static boolean covers(int serial) {
+			return serial >= 0 && serial < table.length;
+		}
 	}
 
 	/**
@@ -204,7 +887,16 @@ public class Airac implements Comparable<Airac>, Serializable {
 	@NotNull
 	@Override
 	public String toString() {
-		return String.format("%02d%02d", getYear() % 100, getOrdinal());
+		if (!Strings.covers(serial)) {
+			return appendTo(new StringBuilder(AiracFormat.shortLength)).toString();
+		}
+		String s = Strings.shortForms[serial];
+		if (s == null) {
+			// racing threads may format duplicates, which is harmless, because strings are immutable
+			s = appendTo(new StringBuilder(AiracFormat.shortLength)).toString();
+			Strings.shortForms[serial] = s;
+		}
+		return s;
 	}
 
 	/**
@@ -215,12 +907,133 @@ public class Airac implements Comparable<Airac>, Serializable {
 	 */
 	@NotNull
 	public String toLongString() {
-		return String.format("%02d%02d (effective: %s; expires: %s)",
-				getYear() % 100,
-				getOrdinal(),
-				getEffective().atZone(UTC).format(DateTimeFormatter.ISO_LOCAL_DATE),
-				getNext().getEffective().minusSeconds(1).atZone(UTC).format(DateTimeFormatter.ISO_LOCAL_DATE)
-		);
+		if (!Strings.covers(serial)) {
+			return appendLongTo(new StringBuilder(AiracFormat.longLength)).toString();
+		}
+		String s = Strings.longForms[serial];
+		if (s == null) {
+			s = appendLongTo(new StringBuilder(AiracFormat.longLength)).toString();
+			Strings.longForms[serial] = s;
+		}
+		return s;
+	}
+
+	/**
+	 * Appends the short representation of this AIRAC cycle, as returned by {@link #toString()}, to a
+	 * {@link StringBuilder}.
+	 *
+	 * @param sb the string builder, not null
+	 * @return the string builder
+	 */
+	@NotNull
+	public StringBuilder appendTo(@NotNull StringBuilder sb) {
+		try {
+			AiracFormat.appendShort(sb, serial);
+		} catch (IOException e) {
+			throw new AssertionError(e);
+		}
+		return sb;
+	}
+
+	/**
+	 * Appends the short representation of this AIRAC cycle, as returned by {@link #toString()}, to an
+	 * {@link Appendable}.
+	 *
+	 * @param appendable the appendable, not null
+	 * @return the appendable
+	 * @throws IOException if the appendable throws an {@link IOException}
+	 */
+	@NotNull
+	public Appendable appendTo(@NotNull Appendable appendable) throws IOException {
+		AiracFormat.appendShort(appendable, serial);
+		return appendable;
+	}
+
+	/**
+	 * Appends the verbose representation of this AIRAC cycle, as returned by {@link #toLongString()}, to a
+	 * {@link StringBuilder}.
+	 *
+	 * @param sb the string builder, not null
+	 * @return the string builder
+	 */
+	@NotNull
+	public StringBuilder appendLongTo(@NotNull StringBuilder sb) {
+		try {
+			AiracFormat.appendLong(sb, serial);
+		} catch (IOException e) {
+			throw new AssertionError(e);
+		}
+		return sb;
+	}
+
+	/**
+	 * Appends the verbose representation of this AIRAC cycle, as returned by {@link #toLongString()}, to an
+	 * {@link Appendable}.
+	 *
+	 * @param appendable the appendable, not null
+	 * @return the appendable
+	 * @throws IOException if the appendable throws an {@link IOException}
+	 */
+	@NotNull
+	public Appendable appendLongTo(@NotNull Appendable appendable) throws IOException {
+		AiracFormat.appendLong(appendable, serial);
+		return appendable;
+	}
+
+	/**
+	 * Writes the short representation of this AIRAC cycle, as returned by {@link #toString()}, as ASCII characters to
+	 * a byte array.
+	 *
+	 * @param dst the byte array, not null
+	 * @param off the offset in the byte array
+	 * @return the offset after the written bytes
+	 * @throws IndexOutOfBoundsException if the byte array is too small; nothing has been written then
+	 */
+	public int writeAscii(@NotNull byte[] dst, int off) {
+		return AiracFormat.writeShort(dst, off, serial);
+	}
+
+	/**
+	 * Writes the short representation of this AIRAC cycle, as returned by {@link #toString()}, as ASCII characters to
+	 * a byte buffer, starting at its position.
+	 *
+	 * @param dst the byte buffer, not null
+	 * @return the byte buffer, its position advanced past the written bytes
+	 * @throws java.nio.BufferOverflowException if the byte buffer has not enough space remaining; nothing has been
+	 *                                          written then
+	 */
+	@NotNull
+	public ByteBuffer writeAscii(@NotNull ByteBuffer dst) {
+		AiracFormat.writeShort(dst, serial);
+		return dst;
+	}
+
+	/**
+	 * Writes the verbose representation of this AIRAC cycle, as returned by {@link #toLongString()}, as ASCII
+	 * characters to a byte array.
+	 *
+	 * @param dst the byte array, not null
+	 * @param off the offset in the byte array
+	 * @return the offset after the written bytes
+	 * @throws IndexOutOfBoundsException if the byte array is too small; nothing has been written then
+	 */
+	public int writeLongAscii(@NotNull byte[] dst, int off) {
+		return AiracFormat.writeLong(dst, off, serial);
+	}
+
+	/**
+	 * Writes the verbose representation of this AIRAC cycle, as returned by {@link #toLongString()}, as ASCII
+	 * characters to a byte buffer, starting at its position.
+	 *
+	 * @param dst the byte buffer, not null
+	 * @return the byte buffer, its position advanced past the written bytes
+	 * @throws java.nio.BufferOverflowException if the byte buffer has not enough space remaining; nothing has been
+	 *                                          written then
+	 */
+	@NotNull
+	public ByteBuffer writeLongAscii(@NotNull ByteBuffer dst) {
+		AiracFormat.writeLong(dst, serial);
+		return dst;
 	}
 
 	/**
@@ -230,7 +1043,7 @@ public class Airac implements Comparable<Airac>, Serializable {
 	 */
 	@NotNull
 	public Airac getNext() {
-		return new Airac(serial + 1);
+		return of(serial + 1);
 	}
 
 	/**
@@ -240,7 +1053,73 @@ public class Airac implements Comparable<Airac>, Serializable {
 	 */
 	@NotNull
 	public Airac getPrevious() {
-		return new Airac(serial - 1);
+		return of(serial - 1);
+	}
+
+	/**
+	 * Returns a sequential, ordered stream of the AIRAC cycles from {@code from} inclusive until {@code toExclusive}
+	 * exclusive.
+	 * <p>
+	 * The stream splits evenly, so parallel streams over long ranges scale.
+	 *
+	 * @param from        the first AIRAC cycle, not null
+	 * @param toExclusive the AIRAC cycle after the last one, not null
+	 * @return a stream of the range of AIRAC cycles, empty if {@code toExclusive} is not after {@code from}
+	 */
+	@NotNull
+	public static Stream<Airac> range(@NotNull Airac from, @NotNull Airac toExclusive) {
+		Objects.requireNonNull(from, "from");
+		Objects.requireNonNull(toExclusive, "toExclusive");
+		return StreamSupport.stream(new AiracSpliterator(from.serial, toExclusive.serial), false);
+	}
+
+	/**
+	 * Returns a sequential, ordered stream of the AIRAC cycles from {@code from} until {@code toInclusive}, both
+	 * inclusive.
+	 * <p>
+	 * The stream splits evenly, so parallel streams over long ranges scale.
+	 *
+	 * @param from        the first AIRAC cycle, not null
+	 * @param toInclusive the last AIRAC cycle, not null
+	 * @return a stream of the range of AIRAC cycles, empty if {@code toInclusive} is before {@code from}
+	 */
+	@NotNull
+	public static Stream<Airac> rangeClosed(@NotNull Airac from, @NotNull Airac toInclusive) {
+		Objects.requireNonNull(from, "from");
+		Objects.requireNonNull(toInclusive, "toInclusive");
+		return StreamSupport.stream(new AiracSpliterator(from.serial, toInclusive.serial + 1L), false);
+	}
+
+	/**
+	 * Returns a sequential, ordered stream of the serials of the AIRAC cycles from {@code from} inclusive until
+	 * {@code toExclusive} exclusive.
+	 *
+	 * @param from        the first AIRAC cycle, not null
+	 * @param toExclusive the AIRAC cycle after the last one, not null
+	 * @return a stream of the serials of the range of AIRAC cycles
+	 * @see #getSerial()
+	 */
+	@NotNull
+	public static IntStream serialRange(@NotNull Airac from, @NotNull Airac toExclusive) {
+		Objects.requireNonNull(from, "from");
+		Objects.requireNonNull(toExclusive, "toExclusive");
+		return IntStream.range(from.serial, toExclusive.serial);
+	}
+
+	/**
+	 * Returns a sequential, ordered stream of the serials of the AIRAC cycles from {@code from} until
+	 * {@code toInclusive}, both inclusive.
+	 *
+	 * @param from        the first AIRAC cycle, not null
+	 * @param toInclusive the last AIRAC cycle, not null
+	 * @return a stream of the serials of the range of AIRAC cycles
+	 * @see #getSerial()
+	 */
+	@NotNull
+	public static IntStream serialRangeClosed(@NotNull Airac from, @NotNull Airac toInclusive) {
+		Objects.requireNonNull(from, "from");
+		Objects.requireNonNull(toInclusive, "toInclusive");
+		return IntStream.rangeClosed(from.serial, toInclusive.serial);
 	}
 
 	/**
@@ -270,6 +1149,58 @@ public class Airac implements Comparable<Airac>, Serializable {
 		return serial;
 	}
 
+	/**
+	 * Checks if the specified field is supported.
+	 * <p>
+	 * Supported are the fields of the effective date {@link ChronoField#EPOCH_DAY}, {@link ChronoField#YEAR},
+	 * {@link ChronoField#MONTH_OF_YEAR} and {@link ChronoField#DAY_OF_MONTH}, as well as {@link AiracFields#serial}
+	 * and {@link AiracFields#ordinal}.
+	 *
+	 * @param field the field to check, null returns false
+	 * @return true if the field is supported
+	 */
+	@Override
+	public boolean isSupported(@Nullable TemporalField field) {
+		if (field instanceof ChronoField) {
+			return field == ChronoField.EPOCH_DAY || field == ChronoField.YEAR || field == ChronoField.MONTH_OF_YEAR
+					|| field == ChronoField.DAY_OF_MONTH;
+		}
+		return field != null && field.isSupportedBy(this);
+	}
+
+	/**
+	 * Gets the value of the specified field as a {@code long}.
+	 *
+	 * @param field the field to get, not null
+	 * @return the value of the field
+	 * @throws UnsupportedTemporalTypeException if the field is not supported
+	 * @see #isSupported(TemporalField)
+	 */
+	@Override
+	public long getLong(@NotNull TemporalField field) {
+		if (field == AiracFields.serial) {
+			return serial;
+		}
+		if (field == AiracFields.ordinal) {
+			return getOrdinal();
+		}
+		if (field instanceof ChronoField) {
+			switch ((ChronoField) field) {
+				case EPOCH_DAY:
+					return getEffectiveEpochDay();
+				case YEAR:
+					return getYear();
+				case MONTH_OF_YEAR:
+					return Math.floorMod(Math.floorDiv(dateOfEpochDay(getEffectiveEpochDay()), 100), 100);
+				case DAY_OF_MONTH:
+					return Math.floorMod(dateOfEpochDay(getEffectiveEpochDay()), 100);
+				default:
+					throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+			}
+		}
+		return field.getFrom(this);
+	}
+
 	/**
 	 * Compares this AIRAC cycle to the specified AIRAC cycle.
 	 * <p>
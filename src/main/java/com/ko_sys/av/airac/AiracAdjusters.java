@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAdjuster;
+
+/**
+ * Adjusters to the effective dates of AIRAC cycles, in the style of {@link java.time.temporal.TemporalAdjusters}.
+ * <p>
+ * The adjusters work on every temporal that supports {@link ChronoField#EPOCH_DAY}, e.g. {@link java.time.LocalDate}
+ * or {@link java.time.ZonedDateTime}. They calculate the result from the epoch day of the temporal in constant time,
+ * taking its local date as the date in UTC, and only change the date; the time of day and the zone are kept. For
+ * example:
+ * <pre>
+ * LocalDate effective = LocalDate.now().with(AiracAdjusters.nextOrSameEffective());
+ * </pre>
+ *
+ * @since 1.8
+ */
+public final class AiracAdjusters {
+	private static final TemporalAdjuster nextEffective = temporal -> {
+		final long day = temporal.getLong(ChronoField.EPOCH_DAY);
+		return temporal.with(ChronoField.EPOCH_DAY, effectiveEpochDay(day) + Airac.cycleDays);
+	};
+	private static final TemporalAdjuster nextOrSameEffective = temporal -> {
+		final long day = temporal.getLong(ChronoField.EPOCH_DAY);
+		final long effective = effectiveEpochDay(day);
+		return temporal.with(ChronoField.EPOCH_DAY, effective == day ? day : effective + Airac.cycleDays);
+	};
+	private static final TemporalAdjuster previousEffective = temporal -> {
+		final long day = temporal.getLong(ChronoField.EPOCH_DAY);
+		final long effective = effectiveEpochDay(day);
+		return temporal.with(ChronoField.EPOCH_DAY, effective == day ? day - Airac.cycleDays : effective);
+	};
+	private static final TemporalAdjuster previousOrSameEffective = temporal ->
+			temporal.with(ChronoField.EPOCH_DAY, effectiveEpochDay(temporal.getLong(ChronoField.EPOCH_DAY)));
+	private static final TemporalAdjuster expiry = temporal -> temporal.with(ChronoField.EPOCH_DAY,
+			effectiveEpochDay(temporal.getLong(ChronoField.EPOCH_DAY)) + Airac.cycleDays - 1);
+
+	private AiracAdjusters() {
+	}
+
+	/**
+	 * Returns the adjuster to the first effective date after the date of the temporal.
+	 *
+	 * @return the next effective date adjuster, not null
+	 */
+	@NotNull
+	public static TemporalAdjuster nextEffective() {
+		return nextEffective;
+	}
+
+	/**
+	 * Returns the adjuster to the first effective date on or after the date of the temporal.
+	 *
+	 * @return the next or same effective date adjuster, not null
+	 */
+	@NotNull
+	public static TemporalAdjuster nextOrSameEffective() {
+		return nextOrSameEffective;
+	}
+
+	/**
+	 * Returns the adjuster to the last effective date before the date of the temporal.
+	 *
+	 * @return the previous effective date adjuster, not null
+	 */
+	@NotNull
+	public static TemporalAdjuster previousEffective() {
+		return previousEffective;
+	}
+
+	/**
+	 * Returns the adjuster to the last effective date on or before the date of the temporal, i.e. the effective date
+	 * of the cycle that is current on that date.
+	 *
+	 * @return the previous or same effective date adjuster, not null
+	 */
+	@NotNull
+	public static TemporalAdjuster previousOrSameEffective() {
+		return previousOrSameEffective;
+	}
+
+	/**
+	 * Returns the adjuster to the last day of the cycle that is current on the date of the temporal, i.e. 27 days after
+	 * its effective date.
+	 *
+	 * @return the expiry adjuster, not null
+	 */
+	@NotNull
+	public static TemporalAdjuster expiry() {
+		return expiry;
+	}
+
+	/**
+	 * Returns the effective date of the cycle that is current on a day.
+	 *
+	 * @param epochDay the day as days since 1970-01-01
+	 * @return the effective date as days since 1970-01-01
+	 */
+	private static long effectiveEpochDay(long epochDay) {
+		return AiracSerials.effectiveEpochDay(AiracSerials.ofEpochDay(epochDay));
+	}
+}
@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ko_sys.av.airac;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A growable array of AIRAC cycles that stores serials in an {@code int[]}.
+ * <p>
+ * Occupies four bytes per cycle, instead of a reference and an object per cycle as a {@code List<Airac>} does.
+ * Sorting, removal of duplicates and searching operate on the primitive serials. {@link #asList()} provides a
+ * read-only {@link List} view, whose elements are the canonical instances of {@link Airac}.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @since 1.8
+ */
+@NotThreadSafe
+public final class AiracArray {
+	private static final int[] empty = {};
+	private static final int defaultCapacity = 10;
+
+	/**
+	 * The serials of the cycles, valid up to {@code size}.
+	 */
+	private int[] serials;
+	/**
+	 * The number of cycles.
+	 */
+	private int size;
+
+	/**
+	 * Creates an empty array.
+	 */
+	public AiracArray() {
+		this.serials = empty;
+	}
+
+	/**
+	 * Creates an empty array with an initial capacity.
+	 *
+	 * @param initialCapacity the initial capacity
+	 * @throws IllegalArgumentException if the initial capacity is negative
+	 */
+	public AiracArray(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("illegal capacity: " + initialCapacity);
+		}
+		this.serials = initialCapacity == 0 ? empty : new int[initialCapacity];
+	}
+
+	/**
+	 * Creates an array of the cycles with the {@code serials}.
+	 *
+	 * @param serials the serials of the cycles, not null
+	 * @return an array of the cycles
+	 */
+	@NotNull
+	public static AiracArray ofSerials(@NotNull int... serials) {
+		AiracArray array = new AiracArray();
+		array.serials = serials.clone();
+		array.size = serials.length;
+		return array;
+	}
+
+	/**
+	 * Returns the number of cycles in this array.
+	 *
+	 * @return the number of cycles
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns whether this array contains no cycles.
+	 *
+	 * @return {@code true} if this array is empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the cycle at an index.
+	 *
+	 * @param index the index
+	 * @return the canonical instance of the cycle at the index
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	@NotNull
+	public Airac get(int index) {
+		return Airac.of(getSerial(index));
+	}
+
+	/**
+	 * Returns the serial of the cycle at an index.
+	 *
+	 * @param index the index
+	 * @return the serial of the cycle at the index
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public int getSerial(int index) {
+		checkIndex(index);
+		return serials[index];
+	}
+
+	/**
+	 * Replaces the cycle at an index.
+	 *
+	 * @param index the index
+	 * @param airac the cycle, not null
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public void set(int index, @NotNull Airac airac) {
+		Objects.requireNonNull(airac, "airac");
+		checkIndex(index);
+		serials[index] = airac.getSerial();
+	}
+
+	/**
+	 * Appends a cycle.
+	 *
+	 * @param airac the cycle, not null
+	 */
+	public void add(@NotNull Airac airac) {
+		Objects.requireNonNull(airac, "airac");
+		addSerial(airac.getSerial());
+	}
+
+	/**
+	 * Appends the cycle with a serial.
+	 *
+	 * @param serial the serial of the cycle
+	 */
+	public void addSerial(int serial) {
+		if (size == serials.length) {
+			grow(size + 1);
+		}
+		serials[size++] = serial;
+	}
+
+	/**
+	 * Appends all cycles of another array.
+	 *
+	 * @param other the other array, not null
+	 */
+	public void addAll(@NotNull AiracArray other) {
+		final int otherSize = other.size;
+		ensureCapacity(size + otherSize);
+		System.arraycopy(other.serials, 0, serials, size, otherSize);
+		size += otherSize;
+	}
+
+	/**
+	 * Removes all cycles.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Increases the capacity, if necessary, to hold at least {@code minCapacity} cycles without growing.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > serials.length) {
+			grow(minCapacity);
+		}
+	}
+
+	/**
+	 * Trims the capacity to the size.
+	 */
+	public void trimToSize() {
+		if (size < serials.length) {
+			serials = size == 0 ? empty : Arrays.copyOf(serials, size);
+		}
+	}
+
+	/**
+	 * Sorts the cycles into ascending order.
+	 */
+	public void sort() {
+		Arrays.sort(serials, 0, size);
+	}
+
+	/**
+	 * Removes duplicate cycles, keeping the first occurrence of each cycle in place.
+	 */
+	public void distinct() {
+		if (size < 2) {
+			return;
+		}
+		final int[] unique = Arrays.copyOf(serials, size);
+		Arrays.sort(unique);
+		int uniqueSize = 1;
+		for (int i = 1; i < unique.length; i++) {
+			if (unique[i] != unique[uniqueSize - 1]) {
+				unique[uniqueSize++] = unique[i];
+			}
+		}
+		if (uniqueSize == size) {
+			return;
+		}
+
+		final boolean[] seen = new boolean[uniqueSize];
+		int newSize = 0;
+		for (int i = 0; i < size; i++) {
+			final int serial = serials[i];
+			final int k = Arrays.binarySearch(unique, 0, uniqueSize, serial);
+			if (!seen[k]) {
+				seen[k] = true;
+				serials[newSize++] = serial;
+			}
+		}
+		size = newSize;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of a cycle.
+	 *
+	 * @param airac the cycle, not null
+	 * @return the index of the first occurrence, or -1 if this array does not contain the cycle
+	 */
+	public int indexOf(@NotNull Airac airac) {
+		Objects.requireNonNull(airac, "airac");
+		final int serial = airac.getSerial();
+		for (int i = 0; i < size; i++) {
+			if (serials[i] == serial) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns whether this array contains a cycle.
+	 *
+	 * @param airac the cycle, not null
+	 * @return {@code true} if this array contains the cycle
+	 */
+	public boolean contains(@NotNull Airac airac) {
+		return indexOf(airac) >= 0;
+	}
+
+	/**
+	 * Searches a cycle with the binary search algorithm. The array must be sorted, see {@link #sort()}.
+	 *
+	 * @param airac the cycle, not null
+	 * @return the index of the cycle, if it is contained in this array; otherwise
+	 * {@code (-(insertion point) - 1)} as defined by {@link Arrays#binarySearch(int[], int)}
+	 */
+	public int binarySearch(@NotNull Airac airac) {
+		Objects.requireNonNull(airac, "airac");
+		return Arrays.binarySearch(serials, 0, size, airac.getSerial());
+	}
+
+	/**
+	 * Returns a copy of the serials.
+	 *
+	 * @return the serials of the cycles of this array
+	 */
+	@NotNull
+	public int[] toSerialArray() {
+		return Arrays.copyOf(serials, size);
+	}
+
+	/**
+	 * Returns a read-only view of this array as a list.
+	 * <p>
+	 * The view reflects later changes of this array.
+	 *
+	 * @return a read-only list view of this array
+	 */
+	@NotNull
+	public List<Airac> asList() {
+		return new ListView();
+	}
+
+	/**
+	 * Indicates whether some other array contains the same cycles in the same order.
+	 *
+	 * @param obj the reference object with which to compare
+	 * @return {@code true} if the other array contains the same cycles in the same order
+	 */
+	@Contract("null -> false")
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (!(obj instanceof AiracArray)) return false;
+
+		AiracArray other = (AiracArray) obj;
+		if (size != other.size) return false;
+		for (int i = 0; i < size; i++) {
+			if (serials[i] != other.serials[i]) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns a hash code value for the array.
+	 *
+	 * @return a hash code value for this array
+	 */
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (int i = 0; i < size; i++) {
+			hash = 31 * hash + serials[i];
+		}
+		return hash;
+	}
+
+	/**
+	 * Returns the identifiers of the cycles, e.g. "[1605, 1606]".
+	 *
+	 * @return the identifiers of the cycles
+	 */
+	@NotNull
+	@Override
+	public String toString() {
+		return asList().toString();
+	}
+
+	private void grow(int minCapacity) {
+		int newCapacity = Math.max(serials.length + (serials.length >> 1), defaultCapacity);
+		if (newCapacity < minCapacity || newCapacity < 0) {
+			newCapacity = minCapacity;
+		}
+		serials = Arrays.copyOf(serials, newCapacity);
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+		}
+	}
+
+	/**
+	 * Read-only list view of the array.
+	 */
+	private final class ListView extends AbstractList<Airac> implements RandomAccess {
+		@Override
+		public Airac get(int index) {
+			return AiracArray.this.get(index);
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public int indexOf(Object o) {
+			return o instanceof Airac ? AiracArray.this.indexOf((Airac) o) : -1;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return indexOf(o) >= 0;
+		}
+	}
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ko_sys.av.airac;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.LongBuffer;
+import java.util.Objects;
+
+/**
+ * Bulk conversions of points in time to AIRAC cycles.
+ * <p>
+ * The methods convert arrays of epoch milliseconds or seconds to serials (see {@link Airac#getSerial()}), identifier
+ * codes (e.g. 1605 for "1605") or indexes relative to a base cycle. They write into caller supplied arrays and do not
+ * allocate per element, which makes them suitable for batches of millions of timestamps.
+ * <p>
+ * The results are the same as those of {@link Airac#fromEpochMilli(long)} and {@link Airac#fromEpochSecond(long)}.
+ * Like those, the conversions throw an {@link ArithmeticException} for points in time whose serial overflows an
+ * {@code int}. The whole input is range checked in a first pass, so nothing is written in that case.
+ * <p>
+ * After the range check the conversion is a single branch-free division per element, which is as far as the JIT gets:
+ * HotSpot does not vectorize 64 bit division, so these loops are scalar by design. The {@code airac-vector} module
+ * converts with SIMD instructions.
+ *
+ * @since 1.8
+ */
+public final class AiracBulk {
+	private AiracBulk() {
+	}
+
+	/**
+	 * Converts epoch milliseconds to serials.
+	 *
+	 * @param src    the epoch milliseconds, not null
+	 * @param srcPos the start position in {@code src}
+	 * @param dst    the array receiving the serials, not null
+	 * @param dstPos the start position in {@code dst}
+	 * @param length the number of elements to convert
+	 * @throws IndexOutOfBoundsException if a range exceeds the bounds of its array
+	 */
+	public static void serialsOfEpochMillis(@NotNull long[] src, int srcPos, @NotNull int[] dst, int dstPos, int length) {
+		checkRange(src.length, srcPos, dst.length, dstPos, length);
+		serials(src, srcPos, dst, dstPos, length, 1000, 0);
+	}
+
+	/**
+	 * Converts epoch seconds to serials.
+	 *
+	 * @param src    the epoch seconds, not null
+	 * @param srcPos the start position in {@code src}
+	 * @param dst    the array receiving the serials, not null
+	 * @param dstPos the start position in {@code dst}
+	 * @param length the number of elements to convert
+	 * @throws IndexOutOfBoundsException if a range exceeds the bounds of its array
+	 */
+	public static void serialsOfEpochSeconds(@NotNull long[] src, int srcPos, @NotNull int[] dst, int dstPos, int length) {
+		checkRange(src.length, srcPos, dst.length, dstPos, length);
+		serials(src, srcPos, dst, dstPos, length, 1, 0);
+	}
+
+	/**
+	 * Converts the next {@code length} epoch milliseconds of a buffer to serials.
+	 * <p>
+	 * The position of {@code src} is advanced by {@code length}.
+	 *
+	 * @param src    the epoch milliseconds, not null
+	 * @param dst    the array receiving the serials, not null
+	 * @param dstPos the start position in {@code dst}
+	 * @param length the number of elements to convert
+	 * @throws IndexOutOfBoundsException if a range exceeds the bounds of its array or the remaining elements of
+	 *                                   {@code src}
+	 */
+	public static void serialsOfEpochMillis(@NotNull LongBuffer src, @NotNull int[] dst, int dstPos, int length) {
+		serials(src, dst, dstPos, length, 1000);
+	}
+
+	/**
+	 * Converts the next {@code length} epoch seconds of a buffer to serials.
+	 * <p>
+	 * The position of {@code src} is advanced by {@code length}.
+	 *
+	 * @param src    the epoch seconds, not null
+	 * @param dst    the array receiving the serials, not null
+	 * @param dstPos the start position in {@code dst}
+	 * @param length the number of elements to convert
+	 * @throws IndexOutOfBoundsException if a range exceeds the bounds of its array or the remaining elements of
+	 *                                   {@code src}
+	 */
+	public static void serialsOfEpochSeconds(@NotNull LongBuffer src, @NotNull int[] dst, int dstPos, int length) {
+		serials(src, dst, dstPos, length, 1);
+	}
+
+	/**
+	 * Converts epoch milliseconds to identifier codes, e.g. 1605 for "1605".
+	 *
+	 * @param src    the epoch milliseconds, not null
+	 * @param srcPos the start position in {@code src}
+	 * @param dst    the array receiving the identifier codes, not null
+	 * @param dstPos the start position in {@code dst}
+	 * @param length the number of elements to convert
+	 * @throws IndexOutOfBoundsException if a range exceeds the bounds of its array
+	 */
+	public static void identifierCodesOfEpochMillis(@NotNull long[] src, int srcPos, @NotNull int[] dst, int dstPos,
+	                                                int length) {
+		checkRange(src.length, srcPos, dst.length, dstPos, length);
+		serials(src, srcPos, dst, dstPos, length, 1000, 0);
+		for (int i = 0; i < length; i++) {
+			dst[dstPos + i] = Airac.identifierCodeOf(dst[dstPos + i]);
+		}
+	}
+
+	/**
+	 * Converts epoch seconds to identifier codes, e.g. 1605 for "1605".
+	 *
+	 * @param src    the epoch seconds, not null
+	 * @param srcPos the start position in {@code src}
+	 * @param dst    the array receiving the identifier codes, not null
+	 * @param dstPos the start position in {@code dst}
+	 * @param length the number of elements to convert
+	 * @throws IndexOutOfBoundsException if a range exceeds the bounds of its array
+	 */
+	public static void identifierCodesOfEpochSeconds(@NotNull long[] src, int srcPos, @NotNull int[] dst, int dstPos,
+	                                                 int length) {
+		checkRange(src.length, srcPos, dst.length, dstPos, length);
+		serials(src, srcPos, dst, dstPos, length, 1, 0);
+		for (int i = 0; i < length; i++) {
+			dst[dstPos + i] = Airac.identifierCodeOf(dst[dstPos + i]);
+		}
+	}
+
+	/**
+	 * Converts epoch milliseconds to cycle indexes relative to {@code base}, i.e. 0 for the base cycle, 1 for its
+	 * successor and -1 for its predecessor.
+	 *
+	 * @param base   the cycle of index 0, not null
+	 * @param src    the epoch milliseconds, not null
+	 * @param srcPos the start position in {@code src}
+	 * @param dst    the array receiving the cycle indexes, not null
+	 * @param dstPos the start position in {@code dst}
+	 * @param length the number of elements to convert
+	 * @throws IndexOutOfBoundsException if a range exceeds the bounds of its array
+	 * @throws ArithmeticException       if an index overflows an {@code int}; nothing is written then
+	 */
+	public static void indexesOfEpochMillis(@NotNull Airac base, @NotNull long[] src, int srcPos, @NotNull int[] dst,
+	                                        int dstPos, int length) {
+		Objects.requireNonNull(base, "base");
+		checkRange(src.length, srcPos, dst.length, dstPos, length);
+		serials(src, srcPos, dst, dstPos, length, 1000, base.getSerial());
+	}
+
+	/**
+	 * Converts epoch seconds to cycle indexes relative to {@code base}, i.e. 0 for the base cycle, 1 for its
+	 * successor and -1 for its predecessor.
+	 *
+	 * @param base   the cycle of index 0, not null
+	 * @param src    the epoch seconds, not null
+	 * @param srcPos the start position in {@code src}
+	 * @param dst    the array receiving the cycle indexes, not null
+	 * @param dstPos the start position in {@code dst}
+	 * @param length the number of elements to convert
+	 * @throws IndexOutOfBoundsException if a range exceeds the bounds of its array
+	 * @throws ArithmeticException       if an index overflows an {@code int}; nothing is written then
+	 */
+	public static void indexesOfEpochSeconds(@NotNull Airac base, @NotNull long[] src, int srcPos, @NotNull int[] dst,
+	                                         int dstPos, int length) {
+		Objects.requireNonNull(base, "base");
+		checkRange(src.length, srcPos, dst.length, dstPos, length);
+		serials(src, srcPos, dst, dstPos, length, 1, base.getSerial());
+	}
+
+	/**
+	 * Validates identifiers as integers into a bit set.
+	 * <p>
+	 * Bit {@code i} of {@code dst}, i.e. bit {@code i % 64} of {@code dst[i / 64]}, is set if {@code src[srcPos + i]}
+	 * is a valid identifier as of {@link Airac#isValidIdentifierCode(int)}, and cleared otherwise. The words of
+	 * {@code dst} are compatible with {@link java.util.BitSet#valueOf(long[])}.
+	 *
+	 * @param src    the identifiers as integers, not null
+	 * @param srcPos the start position in {@code src}
+	 * @param dst    the bit set receiving the results, at least {@code (length + 63) / 64} words, not null
+	 * @param length the number of identifiers to validate
+	 * @return the number of valid identifiers
+	 * @throws IndexOutOfBoundsException if a range exceeds the bounds of its array
+	 */
+	public static int validateIdentifierCodes(@NotNull int[] src, int srcPos, @NotNull long[] dst, int length) {
+		checkRange(src.length, srcPos, dst.length * 64L, length);
+		int valid = 0;
+		for (int w = 0; w * 64 < length; w++) {
+			long word = 0;
+			final int end = Math.min(64, length - w * 64);
+			for (int b = 0; b < end; b++) {
+				if (Airac.isValidIdentifierCode(src[srcPos + w * 64 + b])) {
+					word |= 1L << b;
+				}
+			}
+			dst[w] = word;
+			valid += Long.bitCount(word);
+		}
+		return valid;
+	}
+
+	/**
+	 * Validates the ASCII encoded identifiers of fixed length records into a bit set.
+	 * <p>
+	 * The identifier of record {@code i} is the four bytes at {@code src[off + i * stride]}. Bit {@code i} of
+	 * {@code dst} is set if it is a valid identifier as of {@link Airac#isValidIdentifier(byte[], int)}, and cleared
+	 * otherwise.
+	 *
+	 * @param src    the records, not null
+	 * @param off    the offset of the identifier of the first record
+	 * @param stride the length of a record, at least 4
+	 * @param dst    the bit set receiving the results, at least {@code (count + 63) / 64} words, not null
+	 * @param count  the number of records to validate
+	 * @return the number of valid identifiers
+	 * @throws IllegalArgumentException  if {@code stride} is less than 4
+	 * @throws IndexOutOfBoundsException if a range exceeds the bounds of its array
+	 */
+	public static int validateIdentifiers(@NotNull byte[] src, int off, int stride, @NotNull long[] dst, int count) {
+		if (stride < 4) {
+			throw new IllegalArgumentException("stride must be at least 4: " + stride);
+		}
+		if (count < 0 || off < 0 || (count > 0 && off + (count - 1L) * stride + 4 > src.length)
+				|| count > dst.length * 64L) {
+			throw new IndexOutOfBoundsException(String.format("src: %d/%d, stride: %d, dst: %d, count: %d",
+					off, src.length, stride, dst.length, count));
+		}
+		int valid = 0;
+		for (int w = 0; w * 64 < count; w++) {
+			long word = 0;
+			final int end = Math.min(64, count - w * 64);
+			for (int b = 0; b < end; b++) {
+				if (Airac.isValidIdentifier(src, off + (w * 64 + b) * stride)) {
+					word |= 1L << b;
+				}
+			}
+			dst[w] = word;
+			valid += Long.bitCount(word);
+		}
+		return valid;
+	}
+
+	/**
+	 * Converts points in time to serials minus {@code offset}, after checking that all serials and results fit into
+	 * an {@code int}. The ranges must have been checked.
+	 *
+	 * @param unitsPerSecond 1000 for epoch milliseconds, 1 for epoch seconds
+	 */
+	private static void serials(@NotNull long[] src, int srcPos, @NotNull int[] dst, int dstPos, int length,
+	                            long unitsPerSecond, int offset) {
+		if (length == 0) {
+			return;
+		}
+		long min = Long.MAX_VALUE;
+		long max = Long.MIN_VALUE;
+		for (int i = 0; i < length; i++) {
+			final long t = src[srcPos + i];
+			min = Math.min(min, t);
+			max = Math.max(max, t);
+		}
+		// serials grow with time, so all fit into an int if the serials of the extremes do
+		final int first = Math.toIntExact(serialOf(min, unitsPerSecond));
+		final int last = Math.toIntExact(serialOf(max, unitsPerSecond));
+		// so do the indexes, which grow with time as well
+		Math.toIntExact(first - (long) offset);
+		Math.toIntExact(last - (long) offset);
+		final long cycle = Airac.cycleSeconds * unitsPerSecond;
+
+		if (last - (long) first < Long.MAX_VALUE / cycle) {
+			// no element is before base and no difference overflows, hence truncating division is floor division
+			final long base = AiracSerials.effectiveEpochSecond(first) * unitsPerSecond;
+			final long bias = first - (long) offset;
+			for (int i = 0; i < length; i++) {
+				dst[dstPos + i] = (int) ((src[srcPos + i] - base) / cycle + bias);
+			}
+		} else {
+			for (int i = 0; i < length; i++) {
+				dst[dstPos + i] = (int) (serialOf(src[srcPos + i], unitsPerSecond) - offset);
+			}
+		}
+	}
+
+	/**
+	 * Converts the next {@code length} points in time of a buffer to serials and advances its position.
+	 */
+	private static void serials(@NotNull LongBuffer src, @NotNull int[] dst, int dstPos, int length,
+	                            long unitsPerSecond) {
+		final int srcPos = src.position();
+		checkRange(src.limit(), srcPos, dst.length, dstPos, length);
+		if (src.hasArray()) {
+			serials(src.array(), src.arrayOffset() + srcPos, dst, dstPos, length, unitsPerSecond, 0);
+		} else {
+			long min = Long.MAX_VALUE;
+			long max = Long.MIN_VALUE;
+			for (int i = 0; i < length; i++) {
+				final long t = src.get(srcPos + i);
+				min = Math.min(min, t);
+				max = Math.max(max, t);
+			}
+			if (length > 0) {
+				Math.toIntExact(serialOf(min, unitsPerSecond));
+				Math.toIntExact(serialOf(max, unitsPerSecond));
+			}
+			for (int i = 0; i < length; i++) {
+				dst[dstPos + i] = (int) serialOf(src.get(srcPos + i), unitsPerSecond);
+			}
+		}
+		src.position(srcPos + length);
+	}
+
+	private static long serialOf(long t, long unitsPerSecond) {
+		return unitsPerSecond == 1 ? AiracSerials.ofEpochSecond(t) : AiracSerials.ofEpochMilli(t);
+	}
+
+	/**
+	 * Checks the source and destination ranges of a bulk operation once, so that the loops do not have to.
+	 */
+	private static void checkRange(int srcLength, int srcPos, int dstLength, int dstPos, int length) {
+		if (length < 0 || srcPos < 0 || dstPos < 0 || srcPos > srcLength - length || dstPos > dstLength - length) {
+			throw new IndexOutOfBoundsException(String.format("src: %d/%d, dst: %d/%d, length: %d",
+					srcPos, srcLength, dstPos, dstLength, length));
+		}
+	}
+
+	private static void checkRange(int srcLength, int srcPos, long dstBits, int length) {
+		if (length < 0 || srcPos < 0 || srcPos > srcLength - length || length > dstBits) {
+			throw new IndexOutOfBoundsException(String.format("src: %d/%d, dst: %d bits, length: %d",
+					srcPos, srcLength, dstBits, length));
+		}
+	}
+}
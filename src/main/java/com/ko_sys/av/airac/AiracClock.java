@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ko_sys.av.airac;
+
+import net.jcip.annotations.Immutable;
+import net.jcip.annotations.ThreadSafe;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Clock;
+import java.util.Objects;
+
+/**
+ * The current AIRAC cycle of a {@link Clock}.
+ * <p>
+ * Caches the current cycle, its predecessor and successor, so that asking for the current cycle costs a read of the
+ * clock, a volatile read and a comparison, instead of {@code Airac.fromInstant(Instant.now())}. When the clock passes
+ * the effective date of the successor, or goes back before the effective date of the current cycle, the cache is
+ * replaced atomically.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @since 1.8
+ */
+@ThreadSafe
+public final class AiracClock {
+	/**
+	 * Length of a cycle in milliseconds.
+	 */
+	private static final long cycleMillis = Airac.durationCycle.toMillis();
+
+	private final Clock clock;
+	private volatile State state;
+
+	/**
+	 * Creates an AIRAC clock based on the system clock.
+	 */
+	public AiracClock() {
+		this(Clock.systemUTC());
+	}
+
+	/**
+	 * Creates an AIRAC clock based on a clock.
+	 *
+	 * @param clock the clock, not null
+	 */
+	public AiracClock(@NotNull Clock clock) {
+		this.clock = Objects.requireNonNull(clock, "clock");
+		this.state = new State(Airac.fromEpochMilli(clock.millis()));
+	}
+
+	/**
+	 * Returns the clock this AIRAC clock is based on.
+	 *
+	 * @return the clock
+	 */
+	@NotNull
+	public Clock getClock() {
+		return clock;
+	}
+
+	/**
+	 * Returns the current AIRAC cycle.
+	 *
+	 * @return the current AIRAC cycle
+	 */
+	@NotNull
+	public Airac current() {
+		return state().current;
+	}
+
+	/**
+	 * Returns the successor of the current AIRAC cycle.
+	 *
+	 * @return the successor of the current AIRAC cycle
+	 */
+	@NotNull
+	public Airac next() {
+		return state().next;
+	}
+
+	/**
+	 * Returns the predecessor of the current AIRAC cycle.
+	 *
+	 * @return the predecessor of the current AIRAC cycle
+	 */
+	@NotNull
+	public Airac previous() {
+		return state().previous;
+	}
+
+	/**
+	 * Returns the effective date of the successor of the current AIRAC cycle as milliseconds since
+	 * 1970-01-01T00:00:00Z.
+	 *
+	 * @return the effective date of the next AIRAC cycle as epoch milli
+	 */
+	public long nextEffectiveEpochMilli() {
+		return state().nextEffectiveEpochMilli;
+	}
+
+	@NotNull
+	private State state() {
+		final long now = clock.millis();
+		State s = state;
+		// a single unsigned comparison detects both, passing the next effective date and going back in time
+		if (Long.compareUnsigned(now - s.effectiveEpochMilli, cycleMillis) >= 0) {
+			s = new State(Airac.fromEpochMilli(now));
+			state = s;
+		}
+		return s;
+	}
+
+	/**
+	 * Immutable snapshot of a current AIRAC cycle, replaced as a whole.
+	 */
+	@Immutable
+	private static final class State {
+		final Airac previous;
+		final Airac current;
+		final Airac next;
+		final long effectiveEpochMilli;
+		final long nextEffectiveEpochMilli;
+
+		State(@NotNull Airac current) {
+			this.previous = current.getPrevious();
+			this.current = current;
+			this.next = current.getNext();
+			this.effectiveEpochMilli = current.getEffectiveEpochMilli();
+			this.nextEffectiveEpochMilli = next.getEffectiveEpochMilli();
+		}
+	}
+}
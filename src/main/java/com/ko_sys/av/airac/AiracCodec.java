@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Compact binary encoding of AIRAC cycles.
+ * <p>
+ * A cycle is encoded as its serial in a big-endian, two's complement 16 bit integer, regardless of the byte order of
+ * buffers. This covers the cycles within 32,767 cycles, i.e. about 2,500 years, of the internal epoch of 1901-01-10;
+ * encoding cycles beyond throws an {@link IllegalArgumentException}. Decoding always yields the canonical instances.
+ *
+ * @see Airac#getSerial()
+ * @since 1.8
+ */
+public final class AiracCodec {
+	/**
+	 * Length of an encoded cycle in bytes.
+	 */
+	public static final int encodedLength = 2;
+
+	private AiracCodec() {
+	}
+
+	/**
+	 * Writes a cycle to a data output.
+	 *
+	 * @param out   the data output, not null
+	 * @param airac the cycle, not null
+	 * @throws IOException              if an I/O error occurs
+	 * @throws IllegalArgumentException if the cycle cannot be encoded
+	 */
+	public static void write(@NotNull DataOutput out, @NotNull Airac airac) throws IOException {
+		out.writeShort(encode(airac));
+	}
+
+	/**
+	 * Reads a cycle from a data input.
+	 *
+	 * @param in the data input, not null
+	 * @return the cycle
+	 * @throws IOException if an I/O error occurs
+	 */
+	@NotNull
+	public static Airac read(@NotNull DataInput in) throws IOException {
+		return Airac.of(in.readShort());
+	}
+
+	/**
+	 * Writes a cycle at the position of a buffer and advances the position by {@link #encodedLength}.
+	 *
+	 * @param dst   the buffer, not null
+	 * @param airac the cycle, not null
+	 * @return the buffer
+	 * @throws IllegalArgumentException if the cycle cannot be encoded
+	 * @throws BufferOverflowException  if less than {@link #encodedLength} bytes remain
+	 */
+	@NotNull
+	public static ByteBuffer put(@NotNull ByteBuffer dst, @NotNull Airac airac) {
+		final int serial = encode(airac);
+		if (dst.remaining() < encodedLength) {
+			throw new BufferOverflowException();
+		}
+		return dst.put((byte) (serial >> 8)).put((byte) serial);
+	}
+
+	/**
+	 * Reads a cycle at the position of a buffer and advances the position by {@link #encodedLength}.
+	 *
+	 * @param src the buffer, not null
+	 * @return the cycle
+	 * @throws BufferUnderflowException if less than {@link #encodedLength} bytes remain
+	 */
+	@NotNull
+	public static Airac get(@NotNull ByteBuffer src) {
+		if (src.remaining() < encodedLength) {
+			throw new BufferUnderflowException();
+		}
+		final int high = src.get();
+		return Airac.of(high << 8 | src.get() & 0xff);
+	}
+
+	/**
+	 * Writes a cycle at the absolute {@code index} of a buffer. The position of the buffer is not changed.
+	 *
+	 * @param dst   the buffer, not null
+	 * @param index the index to write at
+	 * @param airac the cycle, not null
+	 * @return the buffer
+	 * @throws IllegalArgumentException  if the cycle cannot be encoded
+	 * @throws IndexOutOfBoundsException if there are less than {@link #encodedLength} bytes at {@code index}
+	 */
+	@NotNull
+	public static ByteBuffer put(@NotNull ByteBuffer dst, int index, @NotNull Airac airac) {
+		final int serial = encode(airac);
+		if (index < 0 || index > dst.limit() - encodedLength) {
+			// checked up front, so that a failing put does not leave one byte written
+			throw new IndexOutOfBoundsException(String.format("index: %d, limit: %d", index, dst.limit()));
+		}
+		return dst.put(index, (byte) (serial >> 8)).put(index + 1, (byte) serial);
+	}
+
+	/**
+	 * Reads a cycle at the absolute {@code index} of a buffer. The position of the buffer is not changed.
+	 *
+	 * @param src   the buffer, not null
+	 * @param index the index to read at
+	 * @return the cycle
+	 * @throws IndexOutOfBoundsException if there are less than {@link #encodedLength} bytes at {@code index}
+	 */
+	@NotNull
+	public static Airac get(@NotNull ByteBuffer src, int index) {
+		return Airac.of(src.get(index) << 8 | src.get(index + 1) & 0xff);
+	}
+
+	/**
+	 * Writes a cycle at offset {@code off} of a byte array.
+	 *
+	 * @param dst   the byte array, not null
+	 * @param off   the offset to write at
+	 * @param airac the cycle, not null
+	 * @return the offset after the encoded cycle
+	 * @throws IllegalArgumentException  if the cycle cannot be encoded
+	 * @throws IndexOutOfBoundsException if there are less than {@link #encodedLength} bytes at {@code off}
+	 */
+	public static int put(@NotNull byte[] dst, int off, @NotNull Airac airac) {
+		final int serial = encode(airac);
+		checkRange(dst.length, off, 1);
+		dst[off] = (byte) (serial >> 8);
+		dst[off + 1] = (byte) serial;
+		return off + encodedLength;
+	}
+
+	/**
+	 * Reads a cycle at offset {@code off} of a byte array.
+	 *
+	 * @param src the byte array, not null
+	 * @param off the offset to read at
+	 * @return the cycle
+	 * @throws IndexOutOfBoundsException if there are less than {@link #encodedLength} bytes at {@code off}
+	 */
+	@NotNull
+	public static Airac get(@NotNull byte[] src, int off) {
+		checkRange(src.length, off, 1);
+		return Airac.of(src[off] << 8 | src[off + 1] & 0xff);
+	}
+
+	/**
+	 * Writes {@code length} cycles of an array consecutively at offset {@code dstOff} of a byte array.
+	 * <p>
+	 * All cycles are checked before anything is written, so that {@code dst} is left untouched if one of them cannot
+	 * be encoded.
+	 *
+	 * @param src    the cycles, not null and without null elements
+	 * @param srcPos the start position in {@code src}
+	 * @param dst    the byte array, not null
+	 * @param dstOff the offset to write at
+	 * @param length the number of cycles to write
+	 * @return the offset after the last encoded cycle
+	 * @throws IllegalArgumentException  if a cycle cannot be encoded
+	 * @throws IndexOutOfBoundsException if a range exceeds the bounds of its array
+	 */
+	public static int putAll(@NotNull Airac[] src, int srcPos, @NotNull byte[] dst, int dstOff, int length) {
+		checkRange(src.length, srcPos, dst.length, dstOff, length);
+		for (int i = 0; i < length; i++) {
+			encode(src[srcPos + i]);
+		}
+		for (int i = 0; i < length; i++) {
+			final int serial = src[srcPos + i].getSerial();
+			final int off = dstOff + i * encodedLength;
+			dst[off] = (byte) (serial >> 8);
+			dst[off + 1] = (byte) serial;
+		}
+		return dstOff + length * encodedLength;
+	}
+
+	/**
+	 * Reads {@code length} consecutive cycles at offset {@code srcOff} of a byte array into an array.
+	 *
+	 * @param src    the byte array, not null
+	 * @param srcOff the offset to read at
+	 * @param dst    the array receiving the cycles, not null
+	 * @param dstPos the start position in {@code dst}
+	 * @param length the number of cycles to read
+	 * @return the offset after the last decoded cycle
+	 * @throws IndexOutOfBoundsException if a range exceeds the bounds of its array
+	 */
+	public static int getAll(@NotNull byte[] src, int srcOff, @NotNull Airac[] dst, int dstPos, int length) {
+		checkRange(dst.length, dstPos, src.length, srcOff, length);
+		for (int i = 0; i < length; i++) {
+			final int off = srcOff + i * encodedLength;
+			dst[dstPos + i] = Airac.of(src[off] << 8 | src[off + 1] & 0xff);
+		}
+		return srcOff + length * encodedLength;
+	}
+
+	/**
+	 * Returns the serial of a cycle if it can be encoded.
+	 *
+	 * @param airac the cycle, not null
+	 * @return the serial of the cycle
+	 * @throws IllegalArgumentException if the cycle cannot be encoded
+	 */
+	private static int encode(@NotNull Airac airac) {
+		final int serial = airac.getSerial();
+		if (serial < Short.MIN_VALUE || serial > Short.MAX_VALUE) {
+			throw new IllegalArgumentException("AIRAC cycle out of range of the binary encoding: " + airac);
+		}
+		return serial;
+	}
+
+	/**
+	 * Checks a range of {@code length} cycles in an array and the corresponding range of bytes in a byte array.
+	 */
+	private static void checkRange(int cyclesLength, int cyclesPos, int bytesLength, int bytesOff, int length) {
+		if (length < 0 || cyclesPos < 0 || bytesOff < 0 || cyclesPos > cyclesLength - length
+				|| bytesOff > bytesLength - (long) length * encodedLength) {
+			throw new IndexOutOfBoundsException(String.format("cycles: %d/%d, bytes: %d/%d, length: %d",
+					cyclesPos, cyclesLength, bytesOff, bytesLength, length));
+		}
+	}
+
+	/**
+	 * Checks a range of {@code length} encoded cycles in a byte array.
+	 */
+	private static void checkRange(int bytesLength, int bytesOff, int length) {
+		if (bytesOff < 0 || bytesOff > bytesLength - (long) length * encodedLength) {
+			throw new IndexOutOfBoundsException(String.format("bytes: %d/%d, length: %d",
+					bytesOff, bytesLength, length));
+		}
+	}
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ko_sys.av.airac;
+
+import net.jcip.annotations.ThreadSafe;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free counters per AIRAC cycle for many concurrently writing threads.
+ * <p>
+ * Each cycle owns a segment of striped {@code long} cells, one cache line per stripe, so that threads adding to the
+ * same cycle do not contend on a single cell. The segments of a window of consecutive cycles are published through an
+ * atomic reference; when an event falls outside the window, a wider window sharing the existing segments replaces it
+ * by compare-and-set. Writers never block and never lose counts to a concurrent growth or snapshot.
+ * <p>
+ * The hot path methods take epoch milliseconds, so that events need neither an {@link java.time.Instant} nor an
+ * {@link Airac}. The window spans at most {@value #maxSpan} cycles, some 5,000 years.
+ *
+ * @since 1.8
+ */
+@ThreadSafe
+public final class AiracCounters {
+	/**
+	 * Number of {@code long} cells per cache line.
+	 */
+	private static final int pad = 8;
+	/**
+	 * Maximum number of cycles covered by the window.
+	 */
+	static final int maxSpan = 1 << 16;
+	/**
+	 * Number of cycles to cover in addition to a new cycle when growing, so that growth is rare.
+	 */
+	private static final int headroom = 4;
+
+	private final int stripeMask;
+	private final AtomicReference<Window> window = new AtomicReference<>(new Window(0, new AtomicLongArray[0]));
+
+	/**
+	 * Creates counters with one stripe per available processor.
+	 */
+	public AiracCounters() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates counters with a number of stripes.
+	 *
+	 * @param stripes the number of stripes, rounded up to a power of two and at most 256
+	 * @throws IllegalArgumentException if {@code stripes} is not positive
+	 */
+	public AiracCounters(int stripes) {
+		if (stripes < 1) {
+			throw new IllegalArgumentException("illegal number of stripes: " + stripes);
+		}
+		this.stripeMask = Integer.highestOneBit(Math.min(stripes, 256) * 2 - 1) - 1;
+	}
+
+	/**
+	 * Increments the counter of the cycle that was current at a point in time.
+	 *
+	 * @param epochMilli the point in time as milliseconds since 1970-01-01T00:00:00Z
+	 * @throws IllegalArgumentException if the cycle is too far off the other cycles of these counters
+	 * @throws ArithmeticException      if the serial of the cycle overflows an {@code int}, see
+	 *                                  {@link Airac#fromEpochMilli(long)}
+	 */
+	public void increment(long epochMilli) {
+		addBySerial(Airac.serialOfEpochMilli(epochMilli), 1);
+	}
+
+	/**
+	 * Adds to the counter of the cycle that was current at a point in time.
+	 *
+	 * @param epochMilli the point in time as milliseconds since 1970-01-01T00:00:00Z
+	 * @param delta      the value to add
+	 * @throws IllegalArgumentException if the cycle is too far off the other cycles of these counters
+	 * @throws ArithmeticException      if the serial of the cycle overflows an {@code int}, see
+	 *                                  {@link Airac#fromEpochMilli(long)}
+	 */
+	public void add(long epochMilli, long delta) {
+		addBySerial(Airac.serialOfEpochMilli(epochMilli), delta);
+	}
+
+	/**
+	 * Adds to the counter of a cycle.
+	 *
+	 * @param airac the cycle, not null
+	 * @param delta the value to add
+	 * @throws IllegalArgumentException if the cycle is too far off the other cycles of these counters
+	 */
+	public void add(@NotNull Airac airac, long delta) {
+		Objects.requireNonNull(airac, "airac");
+		addBySerial(airac.getSerial(), delta);
+	}
+
+	/**
+	 * Returns the sum of the counter of a cycle.
+	 * <p>
+	 * The sum is not an atomic snapshot, concurrent additions may or may not be included.
+	 *
+	 * @param airac the cycle, not null
+	 * @return the sum of the counter of the cycle
+	 */
+	public long sum(@NotNull Airac airac) {
+		Objects.requireNonNull(airac, "airac");
+		final Window w = window.get();
+		final long index = (long) airac.getSerial() - w.base;
+		if (index < 0 || index >= w.segments.length) {
+			return 0;
+		}
+		return sum(w.segments[(int) index], false);
+	}
+
+	/**
+	 * Returns the sums of all cycles with a non-zero sum.
+	 * <p>
+	 * The sums are not an atomic snapshot, concurrent additions may or may not be included. Writers are not blocked.
+	 *
+	 * @return the sums per cycle
+	 */
+	@NotNull
+	public AiracIntMap<Long> snapshot() {
+		return snapshot(false);
+	}
+
+	/**
+	 * Returns the sums of all cycles with a non-zero sum and resets the counters to zero.
+	 * <p>
+	 * Each concurrent addition is either included in the returned sums or remains in the counters. Writers are not
+	 * blocked.
+	 *
+	 * @return the sums per cycle
+	 */
+	@NotNull
+	public AiracIntMap<Long> snapshotThenReset() {
+		return snapshot(true);
+	}
+
+	/**
+	 * Resets the counters of all cycles to zero.
+	 */
+	public void reset() {
+		snapshot(true);
+	}
+
+	@NotNull
+	private AiracIntMap<Long> snapshot(boolean reset) {
+		final Window w = window.get();
+		final AiracIntMap<Long> sums = new AiracIntMap<>();
+		for (int i = 0; i < w.segments.length; i++) {
+			final long sum = sum(w.segments[i], reset);
+			if (sum != 0) {
+				sums.putBySerial(w.base + i, sum);
+			}
+		}
+		return sums;
+	}
+
+	private long sum(@NotNull AtomicLongArray segment, boolean reset) {
+		long sum = 0;
+		for (int i = pad; i < segment.length(); i += pad) {
+			sum += reset ? segment.getAndSet(i, 0) : segment.get(i);
+		}
+		return sum;
+	}
+
+	private void addBySerial(int serial, long delta) {
+		Window w = window.get();
+		long index = (long) serial - w.base;
+		if (index < 0 || index >= w.segments.length) {
+			w = grow(serial);
+			index = (long) serial - w.base;
+		}
+		w.segments[(int) index].getAndAdd(cell(), delta);
+	}
+
+	/**
+	 * Returns the index of the cell of the current thread, leaving the first cache line of a segment, which the array
+	 * header shares, unused.
+	 */
+	private int cell() {
+		return (((int) Thread.currentThread().getId() & stripeMask) + 1) * pad;
+	}
+
+	/**
+	 * Replaces the window by a window that covers {@code serial}, unless another thread did so already.
+	 */
+	@NotNull
+	private Window grow(int serial) {
+		while (true) {
+			final Window w = window.get();
+			final int length = w.segments.length;
+			final long index = (long) serial - w.base;
+			if (index >= 0 && index < length) {
+				return w;
+			}
+
+			final long newBase;
+			final long newEnd;
+			if (length == 0) {
+				newBase = serial;
+				newEnd = (long) serial + 1 + headroom;
+			} else if (index < 0) {
+				newBase = (long) serial - headroom;
+				newEnd = (long) w.base + length;
+			} else {
+				newBase = w.base;
+				newEnd = (long) serial + 1 + headroom;
+			}
+			final long clampedBase = Math.max(newBase, Integer.MIN_VALUE);
+			final long clampedEnd = Math.min(newEnd, Integer.MAX_VALUE + 1L);
+			if (clampedEnd - clampedBase > maxSpan) {
+				throw new IllegalArgumentException(String.format(
+						"AIRAC cycle %d too far off the cycles %d until %d", serial, w.base, w.base + length - 1));
+			}
+
+			final AtomicLongArray[] segments = new AtomicLongArray[(int) (clampedEnd - clampedBase)];
+			final int offset = (int) (w.base - clampedBase);
+			for (int i = 0; i < segments.length; i++) {
+				final int old = i - offset;
+				segments[i] = old >= 0 && old < length
+						? w.segments[old]
+						: new AtomicLongArray((stripeMask + 2) * pad);
+			}
+			final Window grown = new Window((int) clampedBase, segments);
+			if (window.compareAndSet(w, grown)) {
+				return grown;
+			}
+		}
+	}
+
+	/**
+	 * An immutable window of consecutive cycles.
+	 */
+	private static final class Window {
+		final int base;
+		final AtomicLongArray[] segments;
+
+		Window(int base, @NotNull AtomicLongArray[] segments) {
+			this.base = base;
+			this.segments = segments;
+		}
+	}
+}
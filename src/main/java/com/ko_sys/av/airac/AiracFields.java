@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.time.chrono.Chronology;
+import java.time.chrono.IsoChronology;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.temporal.ValueRange;
+
+/**
+ * Fields and units of AIRAC cycles for the {@code java.time} framework, in the style of
+ * {@link java.time.temporal.IsoFields}.
+ * <p>
+ * The fields are supported by {@link Airac} and by every ISO date-based temporal, e.g. {@link java.time.LocalDate} or
+ * {@link java.time.ZonedDateTime}. Their values are calculated from {@link ChronoField#EPOCH_DAY} in constant time,
+ * taking the local date of the temporal as the date in UTC. For example:
+ * <pre>
+ * long serial = LocalDate.of(2016, 5, 1).getLong(AiracFields.serial);
+ * LocalDate inFourCycles = LocalDate.of(2016, 5, 1).plus(4, AiracFields.cycles);
+ * String identifier = new DateTimeFormatterBuilder()
+ *         .appendValueReduced(ChronoField.YEAR, 2, 2, 2000)
+ *         .appendValue(AiracFields.ordinal, 2)
+ *         .toFormatter()
+ *         .format(airac);
+ * </pre>
+ *
+ * @since 1.8
+ */
+public final class AiracFields {
+	/**
+	 * The serial of the cycle, i.e. the number of cycles since the internal epoch of 1901-01-10.
+	 * <p>
+	 * Adjusting the serial moves the date by whole cycles, keeping the day within the cycle.
+	 *
+	 * @see Airac#getSerial()
+	 */
+	public static final TemporalField serial = Field.SERIAL;
+	/**
+	 * The ordinal of the cycle within the year of its effective date, from 1 to 13 or 14.
+	 * <p>
+	 * Adjusting the ordinal moves the date by whole cycles within the year, keeping the day within the cycle.
+	 *
+	 * @see Airac#getOrdinal()
+	 */
+	public static final TemporalField ordinal = Field.ORDINAL;
+	/**
+	 * The unit of 28 days that represents a cycle.
+	 * <p>
+	 * Adding cycles adds multiples of 28 days. The number of cycles between two temporals is the number of complete
+	 * cycles, i.e. days between them divided by 28, like {@link ChronoUnit#WEEKS} for weeks.
+	 */
+	public static final TemporalUnit cycles = Unit.CYCLES;
+
+	private AiracFields() {
+	}
+
+	private enum Field implements TemporalField {
+		SERIAL("AiracSerial", ValueRange.of(Long.MIN_VALUE, Long.MAX_VALUE), ChronoUnit.FOREVER) {
+			@Override
+			public ValueRange rangeRefinedBy(TemporalAccessor temporal) {
+				checkSupported(temporal);
+				return range();
+			}
+
+			@Override
+			public long getFrom(TemporalAccessor temporal) {
+				checkSupported(temporal);
+				return AiracSerials.ofEpochDay(temporal.getLong(ChronoField.EPOCH_DAY));
+			}
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public <R extends Temporal> R adjustInto(R temporal, long newValue) {
+				checkSupported(temporal);
+				final long day = temporal.getLong(ChronoField.EPOCH_DAY);
+				final long shift = Math.multiplyExact(Math.subtractExact(newValue, AiracSerials.ofEpochDay(day)),
+						Airac.cycleDays);
+				return (R) temporal.with(ChronoField.EPOCH_DAY, Math.addExact(day, shift));
+			}
+		},
+		ORDINAL("AiracOrdinal", ValueRange.of(1, 13, 14), ChronoUnit.YEARS) {
+			@Override
+			public ValueRange rangeRefinedBy(TemporalAccessor temporal) {
+				checkSupported(temporal);
+				final int year = AiracSerials.year(AiracSerials.ofEpochDay(temporal.getLong(ChronoField.EPOCH_DAY)));
+				return ValueRange.of(1, Airac.firstSerialOfYear(year + 1) - Airac.firstSerialOfYear(year));
+			}
+
+			@Override
+			public long getFrom(TemporalAccessor temporal) {
+				checkSupported(temporal);
+				return AiracSerials.ordinal(AiracSerials.ofEpochDay(temporal.getLong(ChronoField.EPOCH_DAY)));
+			}
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public <R extends Temporal> R adjustInto(R temporal, long newValue) {
+				rangeRefinedBy(temporal).checkValidValue(newValue, this);
+				final long day = temporal.getLong(ChronoField.EPOCH_DAY);
+				final long shift = (newValue - AiracSerials.ordinal(AiracSerials.ofEpochDay(day))) * Airac.cycleDays;
+				return (R) temporal.with(ChronoField.EPOCH_DAY, day + shift);
+			}
+		};
+
+		private final String name;
+		private final ValueRange range;
+		private final TemporalUnit rangeUnit;
+
+		Field(String name, ValueRange range, TemporalUnit rangeUnit) {
+			this.name = name;
+			this.range = range;
+			this.rangeUnit = rangeUnit;
+		}
+
+		@Override
+		public TemporalUnit getBaseUnit() {
+			return Unit.CYCLES;
+		}
+
+		@Override
+		public TemporalUnit getRangeUnit() {
+			return rangeUnit;
+		}
+
+		@Override
+		public ValueRange range() {
+			return range;
+		}
+
+		@Override
+		public boolean isDateBased() {
+			return true;
+		}
+
+		@Override
+		public boolean isTimeBased() {
+			return false;
+		}
+
+		@Override
+		public boolean isSupportedBy(TemporalAccessor temporal) {
+			return temporal instanceof Airac || temporal.isSupported(ChronoField.EPOCH_DAY) && isIso(temporal);
+		}
+
+		void checkSupported(TemporalAccessor temporal) {
+			if (!isSupportedBy(temporal)) {
+				throw new UnsupportedTemporalTypeException("Unsupported field: " + name);
+			}
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+	private enum Unit implements TemporalUnit {
+		CYCLES;
+
+		private static final Duration duration = Duration.ofDays(Airac.cycleDays);
+
+		@Override
+		public Duration getDuration() {
+			return duration;
+		}
+
+		@Override
+		public boolean isDurationEstimated() {
+			// like days, a cycle is not always 28 * 24 hours in time-zones with daylight saving time
+			return true;
+		}
+
+		@Override
+		public boolean isDateBased() {
+			return true;
+		}
+
+		@Override
+		public boolean isTimeBased() {
+			return false;
+		}
+
+		@Override
+		public boolean isSupportedBy(Temporal temporal) {
+			return temporal.isSupported(ChronoUnit.DAYS);
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public <R extends Temporal> R addTo(R temporal, long amount) {
+			return (R) temporal.plus(Math.multiplyExact(amount, Airac.cycleDays), ChronoUnit.DAYS);
+		}
+
+		@Override
+		public long between(Temporal temporal1Inclusive, Temporal temporal2Exclusive) {
+			return temporal1Inclusive.until(temporal2Exclusive, ChronoUnit.DAYS) / Airac.cycleDays;
+		}
+
+		@Override
+		public String toString() {
+			return "AiracCycles";
+		}
+	}
+
+	private static boolean isIso(@NotNull TemporalAccessor temporal) {
+		return Chronology.from(temporal).equals(IsoChronology.INSTANCE);
+	}
+}
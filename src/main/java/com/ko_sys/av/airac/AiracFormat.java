@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ko_sys.av.airac;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Formatting of the short ("YYOO") and long ("YYOO (effective: YYYY-MM-DD; expires: YYYY-MM-DD)") representations
+ * of AIRAC cycles without {@link java.util.Formatter} and without intermediate strings.
+ * <p>
+ * Cycles with dates outside of the years 0 until 9999 fall back to {@link String#format(String, Object...)}, because
+ * their representations do not have a fixed width.
+ */
+final class AiracFormat {
+	/**
+	 * Length of the short representation.
+	 */
+	static final int shortLength = 4;
+	/**
+	 * Length of the long representation.
+	 */
+	static final int longLength = 49;
+
+	private static final String effectiveLabel = " (effective: ";
+	private static final String expiresLabel = "; expires: ";
+
+	/**
+	 * Serial of the first cycle that becomes effective in the year 0.
+	 */
+	private static final int minPlainSerial = (int) (Math.floorDiv(
+			LocalDate.of(0, 1, 1).toEpochDay() - Airac.effectiveEpochDayOf(0) - 1, 28) + 1);
+	/**
+	 * Serial of the last cycle that expires in the year 9999.
+	 */
+	private static final int maxPlainSerial = (int) Math.floorDiv(
+			LocalDate.of(9999, 12, 31).toEpochDay() - 27 - Airac.effectiveEpochDayOf(0), 28);
+
+	private AiracFormat() {
+	}
+
+	/**
+	 * Returns whether the representations of the cycle with the {@code serial} have a fixed width.
+	 */
+	private static boolean isPlain(int serial) {
+		return serial >= minPlainSerial && serial <= maxPlainSerial;
+	}
+
+	static void appendShort(@NotNull Appendable appendable, int serial) throws IOException {
+		if (!isPlain(serial)) {
+			appendable.append(formatShort(serial));
+			return;
+		}
+		append2(appendable, Airac.yearOf(serial) % 100);
+		append2(appendable, Airac.ordinalOf(serial));
+	}
+
+	static void appendLong(@NotNull Appendable appendable, int serial) throws IOException {
+		if (!isPlain(serial)) {
+			appendable.append(formatLong(serial));
+			return;
+		}
+		final long effective = Airac.effectiveEpochDayOf(serial);
+		appendShort(appendable, serial);
+		appendable.append(effectiveLabel);
+		appendDate(appendable, Airac.dateOfEpochDay(effective));
+		appendable.append(expiresLabel);
+		appendDate(appendable, Airac.dateOfEpochDay(effective + 27));
+		appendable.append(')');
+	}
+
+	static int writeShort(@NotNull byte[] dst, int off, int serial) {
+		if (!isPlain(serial)) {
+			return writeString(dst, off, formatShort(serial));
+		}
+		checkBounds(dst, off, shortLength);
+		put2(dst, off, Airac.yearOf(serial) % 100);
+		put2(dst, off + 2, Airac.ordinalOf(serial));
+		return off + shortLength;
+	}
+
+	static int writeLong(@NotNull byte[] dst, int off, int serial) {
+		if (!isPlain(serial)) {
+			return writeString(dst, off, formatLong(serial));
+		}
+		checkBounds(dst, off, longLength);
+		final long effective = Airac.effectiveEpochDayOf(serial);
+		int i = writeShort(dst, off, serial);
+		i = putLabel(dst, i, effectiveLabel);
+		i = putDate(dst, i, Airac.dateOfEpochDay(effective));
+		i = putLabel(dst, i, expiresLabel);
+		i = putDate(dst, i, Airac.dateOfEpochDay(effective + 27));
+		dst[i++] = ')';
+		return i;
+	}
+
+	static void writeShort(@NotNull ByteBuffer dst, int serial) {
+		if (!isPlain(serial)) {
+			writeString(dst, formatShort(serial));
+			return;
+		}
+		if (dst.remaining() < shortLength) {
+			throw new BufferOverflowException();
+		}
+		if (dst.hasArray()) {
+			writeShort(dst.array(), dst.arrayOffset() + dst.position(), serial);
+			dst.position(dst.position() + shortLength);
+			return;
+		}
+		put2(dst, Airac.yearOf(serial) % 100);
+		put2(dst, Airac.ordinalOf(serial));
+	}
+
+	static void writeLong(@NotNull ByteBuffer dst, int serial) {
+		if (!isPlain(serial)) {
+			writeString(dst, formatLong(serial));
+			return;
+		}
+		if (dst.remaining() < longLength) {
+			throw new BufferOverflowException();
+		}
+		if (dst.hasArray()) {
+			writeLong(dst.array(), dst.arrayOffset() + dst.position(), serial);
+			dst.position(dst.position() + longLength);
+			return;
+		}
+		final long effective = Airac.effectiveEpochDayOf(serial);
+		writeShort(dst, serial);
+		putLabel(dst, effectiveLabel);
+		putDate(dst, Airac.dateOfEpochDay(effective));
+		putLabel(dst, expiresLabel);
+		putDate(dst, Airac.dateOfEpochDay(effective + 27));
+		dst.put((byte) ')');
+	}
+
+	/**
+	 * Formats the short representation of cycles with dates of any year.
+	 */
+	@NotNull
+	static String formatShort(int serial) {
+		return String.format("%02d%02d", Airac.yearOf(serial) % 100, Airac.ordinalOf(serial));
+	}
+
+	/**
+	 * Formats the long representation of cycles with dates of any year.
+	 */
+	@NotNull
+	static String formatLong(int serial) {
+		final Instant effective = Instant.ofEpochSecond(Airac.effectiveEpochDayOf(serial) * 86400);
+		return String.format("%s (effective: %s; expires: %s)",
+				formatShort(serial),
+				effective.atZone(ZoneOffset.UTC).format(DateTimeFormatter.ISO_LOCAL_DATE),
+				effective.plus(Airac.durationCycle).minusSeconds(1).atZone(ZoneOffset.UTC)
+						.format(DateTimeFormatter.ISO_LOCAL_DATE)
+		);
+	}
+
+	private static void append2(@NotNull Appendable appendable, int value) throws IOException {
+		appendable.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+	}
+
+	private static void appendDate(@NotNull Appendable appendable, long date) throws IOException {
+		final int yyyymmdd = (int) date;
+		append2(appendable, yyyymmdd / 1000000);
+		append2(appendable, yyyymmdd / 10000 % 100);
+		appendable.append('-');
+		append2(appendable, yyyymmdd / 100 % 100);
+		appendable.append('-');
+		append2(appendable, yyyymmdd % 100);
+	}
+
+	private static void put2(@NotNull byte[] dst, int off, int value) {
+		dst[off] = (byte) ('0' + value / 10);
+		dst[off + 1] = (byte) ('0' + value % 10);
+	}
+
+	private static int putDate(@NotNull byte[] dst, int off, long date) {
+		final int yyyymmdd = (int) date;
+		put2(dst, off, yyyymmdd / 1000000);
+		put2(dst, off + 2, yyyymmdd / 10000 % 100);
+		dst[off + 4] = '-';
+		put2(dst, off + 5, yyyymmdd / 100 % 100);
+		dst[off + 7] = '-';
+		put2(dst, off + 8, yyyymmdd % 100);
+		return off + 10;
+	}
+
+	private static int putLabel(@NotNull byte[] dst, int off, @NotNull String label) {
+		for (int i = 0; i < label.length(); i++) {
+			dst[off + i] = (byte) label.charAt(i);
+		}
+		return off + label.length();
+	}
+
+	private static void put2(@NotNull ByteBuffer dst, int value) {
+		dst.put((byte) ('0' + value / 10)).put((byte) ('0' + value % 10));
+	}
+
+	private static void putDate(@NotNull ByteBuffer dst, long date) {
+		final int yyyymmdd = (int) date;
+		put2(dst, yyyymmdd / 1000000);
+		put2(dst, yyyymmdd / 10000 % 100);
+		dst.put((byte) '-');
+		put2(dst, yyyymmdd / 100 % 100);
+		dst.put((byte) '-');
+		put2(dst, yyyymmdd % 100);
+	}
+
+	private static void putLabel(@NotNull ByteBuffer dst, @NotNull String label) {
+		for (int i = 0; i < label.length(); i++) {
+			dst.put((byte) label.charAt(i));
+		}
+	}
+
+	private static int writeString(@NotNull byte[] dst, int off, @NotNull String s) {
+		checkBounds(dst, off, s.length());
+		return putLabel(dst, off, s);
+	}
+
+	private static void writeString(@NotNull ByteBuffer dst, @NotNull String s) {
+		if (dst.remaining() < s.length()) {
+			throw new BufferOverflowException();
+		}
+		putLabel(dst, s);
+	}
+
+	private static void checkBounds(@NotNull byte[] dst, int off, int length) {
+		if (off < 0 || off > dst.length - length) {
+			throw new IndexOutOfBoundsException(String.format("offset %d, length %d, size %d", off, length, dst.length));
+		}
+	}
+}
@@ -0,0 +1,422 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ko_sys.av.airac;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A map from AIRAC cycles to values that stores the values in an array indexed by serial.
+ * <p>
+ * Since cycles are dense serials, the map keeps its values in a sliding window of an array that starts at a base
+ * serial, instead of hashing boxed keys into nodes. Lookups, insertions and removals take constant time, iteration is
+ * in ascending order of the cycles. The window grows in either direction as needed, so the map is best suited to keys
+ * that lie close together, e.g. some decades of cycles.
+ * <p>
+ * The map does not permit {@code null} values. This class is not thread-safe.
+ *
+ * @param <V> the type of the values
+ * @since 1.8
+ */
+@NotThreadSafe
+public final class AiracIntMap<V> implements Iterable<Map.Entry<Airac, V>> {
+	private static final Object[] empty = {};
+	private static final int minCapacity = 16;
+
+	/**
+	 * The values, indexed by {@code serial - base}.
+	 */
+	private Object[] values = empty;
+	/**
+	 * The serial of the cycle at index 0 of {@code values}.
+	 */
+	private int base;
+	/**
+	 * The number of mappings.
+	 */
+	private int size;
+
+	/**
+	 * Creates an empty map.
+	 */
+	public AiracIntMap() {
+	}
+
+	/**
+	 * Returns the number of mappings.
+	 *
+	 * @return the number of mappings
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns whether this map contains no mappings.
+	 *
+	 * @return {@code true} if this map is empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the value of a cycle.
+	 *
+	 * @param airac the cycle, not null
+	 * @return the value of the cycle, or {@code null} if there is none
+	 */
+	@Nullable
+	public V get(@NotNull Airac airac) {
+		Objects.requireNonNull(airac, "airac");
+		return getBySerial(airac.getSerial());
+	}
+
+	/**
+	 * Returns the value of the cycle with a serial.
+	 *
+	 * @param serial the serial of the cycle
+	 * @return the value of the cycle, or {@code null} if there is none
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public V getBySerial(int serial) {
+		final long index = (long) serial - base;
+		if (index < 0 || index >= values.length) {
+			return null;
+		}
+		return (V) values[(int) index];
+	}
+
+	/**
+	 * Returns whether this map contains a value for a cycle.
+	 *
+	 * @param airac the cycle, not null
+	 * @return {@code true} if there is a value for the cycle
+	 */
+	public boolean containsKey(@NotNull Airac airac) {
+		return get(airac) != null;
+	}
+
+	/**
+	 * Associates a value with a cycle.
+	 *
+	 * @param airac the cycle, not null
+	 * @param value the value, not null
+	 * @return the previous value of the cycle, or {@code null} if there was none
+	 */
+	@Nullable
+	public V put(@NotNull Airac airac, @NotNull V value) {
+		Objects.requireNonNull(airac, "airac");
+		return putBySerial(airac.getSerial(), value);
+	}
+
+	/**
+	 * Associates a value with the cycle with a serial.
+	 *
+	 * @param serial the serial of the cycle
+	 * @param value  the value, not null
+	 * @return the previous value of the cycle, or {@code null} if there was none
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public V putBySerial(int serial, @NotNull V value) {
+		Objects.requireNonNull(value, "value");
+		final int index = indexFor(serial);
+		final V previous = (V) values[index];
+		values[index] = value;
+		if (previous == null) {
+			size++;
+		}
+		return previous;
+	}
+
+	/**
+	 * Removes the value of a cycle.
+	 *
+	 * @param airac the cycle, not null
+	 * @return the removed value, or {@code null} if there was none
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public V remove(@NotNull Airac airac) {
+		Objects.requireNonNull(airac, "airac");
+		final long index = (long) airac.getSerial() - base;
+		if (index < 0 || index >= values.length) {
+			return null;
+		}
+		final V previous = (V) values[(int) index];
+		if (previous != null) {
+			values[(int) index] = null;
+			size--;
+		}
+		return previous;
+	}
+
+	/**
+	 * Computes a new value of a cycle from its current value, as {@link Map#compute(Object, BiFunction)} does.
+	 *
+	 * @param airac             the cycle, not null
+	 * @param remappingFunction the function computing the new value from the cycle and the current value, or
+	 *                          {@code null} if there is none; returns {@code null} to remove the value; not null
+	 * @return the new value, or {@code null} if there is none
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public V compute(@NotNull Airac airac, @NotNull BiFunction<? super Airac, ? super V, ? extends V> remappingFunction) {
+		Objects.requireNonNull(airac, "airac");
+		Objects.requireNonNull(remappingFunction, "remappingFunction");
+		final V previous = get(airac);
+		final V value = remappingFunction.apply(airac, previous);
+		if (value != null) {
+			final int index = indexFor(airac.getSerial());
+			values[index] = value;
+			if (previous == null) {
+				size++;
+			}
+		} else if (previous != null) {
+			remove(airac);
+		}
+		return value;
+	}
+
+	/**
+	 * Returns the value of a cycle, computing and storing it first if there is none, as
+	 * {@link Map#computeIfAbsent(Object, Function)} does.
+	 *
+	 * @param airac           the cycle, not null
+	 * @param mappingFunction the function computing the value of the cycle; returns {@code null} to store nothing;
+	 *                        not null
+	 * @return the current or computed value, or {@code null} if there is none
+	 */
+	@Nullable
+	public V computeIfAbsent(@NotNull Airac airac, @NotNull Function<? super Airac, ? extends V> mappingFunction) {
+		Objects.requireNonNull(airac, "airac");
+		Objects.requireNonNull(mappingFunction, "mappingFunction");
+		final V previous = get(airac);
+		if (previous != null) {
+			return previous;
+		}
+		final V value = mappingFunction.apply(airac);
+		if (value != null) {
+			putBySerial(airac.getSerial(), value);
+		}
+		return value;
+	}
+
+	/**
+	 * Removes all mappings.
+	 */
+	public void clear() {
+		values = empty;
+		size = 0;
+	}
+
+	/**
+	 * Returns the mapping of the greatest cycle at or before the cycle that was current at an instant.
+	 *
+	 * @param instant the instant, not null
+	 * @return the mapping, or {@code null} if there is none
+	 */
+	@Nullable
+	public Map.Entry<Airac, V> floorEntry(@NotNull Instant instant) {
+		Objects.requireNonNull(instant, "instant");
+		final long index = Math.min(AiracSerials.ofEpochSecond(instant.getEpochSecond()) - base, values.length - 1L);
+		for (long i = index; i >= 0; i--) {
+			if (values[(int) i] != null) {
+				return entry((int) i);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the mapping of the least cycle at or after the cycle that was current at an instant.
+	 *
+	 * @param instant the instant, not null
+	 * @return the mapping, or {@code null} if there is none
+	 */
+	@Nullable
+	public Map.Entry<Airac, V> ceilingEntry(@NotNull Instant instant) {
+		Objects.requireNonNull(instant, "instant");
+		final long index = Math.max(AiracSerials.ofEpochSecond(instant.getEpochSecond()) - base, 0L);
+		for (long i = index; i < values.length; i++) {
+			if (values[(int) i] != null) {
+				return entry((int) i);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the mapping of the least cycle.
+	 *
+	 * @return the mapping, or {@code null} if this map is empty
+	 */
+	@Nullable
+	public Map.Entry<Airac, V> firstEntry() {
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] != null) {
+				return entry(i);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the mapping of the greatest cycle.
+	 *
+	 * @return the mapping, or {@code null} if this map is empty
+	 */
+	@Nullable
+	public Map.Entry<Airac, V> lastEntry() {
+		for (int i = values.length - 1; i >= 0; i--) {
+			if (values[i] != null) {
+				return entry(i);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Performs an action for each mapping in ascending order of the cycles.
+	 *
+	 * @param action the action, not null
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEach(@NotNull BiConsumer<? super Airac, ? super V> action) {
+		Objects.requireNonNull(action, "action");
+		final Object[] values = this.values;
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] != null) {
+				action.accept(Airac.of(base + i), (V) values[i]);
+			}
+		}
+	}
+
+	/**
+	 * Returns an iterator over the mappings in ascending order of the cycles.
+	 * <p>
+	 * The entries are immutable and {@link Iterator#remove()} is not supported.
+	 *
+	 * @return an iterator over the mappings
+	 */
+	@NotNull
+	@Override
+	public Iterator<Map.Entry<Airac, V>> iterator() {
+		return new Iterator<Map.Entry<Airac, V>>() {
+			private final Object[] values = AiracIntMap.this.values;
+			private final int base = AiracIntMap.this.base;
+			private int next = advance(0);
+
+			private int advance(int from) {
+				int i = from;
+				while (i < values.length && values[i] == null) {
+					i++;
+				}
+				return i;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return next < values.length;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public Map.Entry<Airac, V> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				final int i = next;
+				next = advance(i + 1);
+				return new AbstractMap.SimpleImmutableEntry<>(Airac.of(base + i), (V) values[i]);
+			}
+		};
+	}
+
+	/**
+	 * Returns the mappings, e.g. "{1605=a, 1606=b}".
+	 *
+	 * @return the mappings
+	 */
+	@NotNull
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder("{");
+		forEach((airac, value) -> {
+			if (sb.length() > 1) {
+				sb.append(", ");
+			}
+			sb.append(airac).append('=').append(value);
+		});
+		return sb.append('}').toString();
+	}
+
+	@NotNull
+	@SuppressWarnings("unchecked")
+	private Map.Entry<Airac, V> entry(int index) {
+		return new AbstractMap.SimpleImmutableEntry<>(Airac.of(base + index), (V) values[index]);
+	}
+
+	/**
+	 * Returns the index of a serial, growing the window of values to cover it first, if necessary.
+	 */
+	private int indexFor(int serial) {
+		if (values.length == 0) {
+			values = new Object[minCapacity];
+			base = (int) Math.max(Math.min((long) serial - minCapacity / 2, Integer.MAX_VALUE - minCapacity + 1),
+					Integer.MIN_VALUE);
+			return serial - base;
+		}
+		final long index = (long) serial - base;
+		if (index >= 0 && index < values.length) {
+			return (int) index;
+		}
+
+		// grow by at least half of the current capacity in the direction of the serial
+		final long length = values.length;
+		final long headroom = Math.max(length / 2, minCapacity);
+		final long newBase;
+		final long newLength;
+		if (index < 0) {
+			newBase = Math.max((long) base + index - headroom, Integer.MIN_VALUE);
+			newLength = (long) base + length - newBase;
+		} else {
+			newBase = base;
+			newLength = Math.min(index + 1 + headroom, (long) Integer.MAX_VALUE - base + 1);
+		}
+		if (newLength > Integer.MAX_VALUE - 8) {
+			throw new OutOfMemoryError("AIRAC cycles span too wide: " + newLength);
+		}
+		final Object[] newValues = new Object[(int) newLength];
+		System.arraycopy(values, 0, newValues, (int) (base - newBase), values.length);
+		values = newValues;
+		base = (int) newBase;
+		return (int) ((long) serial - base);
+	}
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Order-preserving binary keys of AIRAC cycles for sorted key-value stores.
+ * <p>
+ * A key is the serial of the cycle with its sign bit flipped in a big-endian 32 bit integer, regardless of the byte
+ * order of buffers. Comparing keys lexicographically as unsigned bytes, as sorted key-value stores do, yields the
+ * order of {@link Airac#compareTo(Airac)} for all cycles, including those across the turn of the century where the
+ * identifiers "9913" and "0001" do not sort. Keys have a fixed length, hence they can prefix composite keys.
+ *
+ * @since 1.8
+ */
+public final class AiracKeys {
+	/**
+	 * Length of a key in bytes.
+	 */
+	public static final int keyLength = 4;
+
+	private AiracKeys() {
+	}
+
+	/**
+	 * Returns the key of a cycle.
+	 *
+	 * @param airac the cycle, not null
+	 * @return a new array holding the key
+	 */
+	@NotNull
+	public static byte[] toKey(@NotNull Airac airac) {
+		final byte[] key = new byte[keyLength];
+		put(key, 0, airac);
+		return key;
+	}
+
+	/**
+	 * Writes the key of a cycle at offset {@code off} of a byte array.
+	 *
+	 * @param dst   the byte array, not null
+	 * @param off   the offset to write at
+	 * @param airac the cycle, not null
+	 * @return the offset after the key
+	 * @throws IndexOutOfBoundsException if there are less than {@link #keyLength} bytes at {@code off}
+	 */
+	public static int put(@NotNull byte[] dst, int off, @NotNull Airac airac) {
+		final int key = keyOf(airac.getSerial());
+		checkBounds(dst.length, off);
+		dst[off] = (byte) (key >>> 24);
+		dst[off + 1] = (byte) (key >>> 16);
+		dst[off + 2] = (byte) (key >>> 8);
+		dst[off + 3] = (byte) key;
+		return off + keyLength;
+	}
+
+	/**
+	 * Writes the key of a cycle at the position of a buffer and advances the position by {@link #keyLength}.
+	 *
+	 * @param dst   the buffer, not null
+	 * @param airac the cycle, not null
+	 * @return the buffer
+	 * @throws BufferOverflowException if less than {@link #keyLength} bytes remain
+	 */
+	@NotNull
+	public static ByteBuffer put(@NotNull ByteBuffer dst, @NotNull Airac airac) {
+		final int key = keyOf(airac.getSerial());
+		if (dst.remaining() < keyLength) {
+			throw new BufferOverflowException();
+		}
+		return dst.put((byte) (key >>> 24)).put((byte) (key >>> 16)).put((byte) (key >>> 8)).put((byte) key);
+	}
+
+	/**
+	 * Writes the key of a cycle at the absolute {@code index} of a buffer. The position of the buffer is not changed.
+	 *
+	 * @param dst   the buffer, not null
+	 * @param index the index to write at
+	 * @param airac the cycle, not null
+	 * @return the buffer
+	 * @throws IndexOutOfBoundsException if there are less than {@link #keyLength} bytes at {@code index}
+	 */
+	@NotNull
+	public static ByteBuffer put(@NotNull ByteBuffer dst, int index, @NotNull Airac airac) {
+		final int key = keyOf(airac.getSerial());
+		checkBounds(dst.limit(), index);
+		return dst.put(index, (byte) (key >>> 24)).put(index + 1, (byte) (key >>> 16))
+				.put(index + 2, (byte) (key >>> 8)).put(index + 3, (byte) key);
+	}
+
+	/**
+	 * Reads the cycle of the key at offset {@code off} of a byte array.
+	 *
+	 * @param src the byte array, not null
+	 * @param off the offset of the key
+	 * @return the cycle
+	 * @throws IndexOutOfBoundsException if there are less than {@link #keyLength} bytes at {@code off}
+	 */
+	@NotNull
+	public static Airac get(@NotNull byte[] src, int off) {
+		return Airac.of(serialAt(src, off));
+	}
+
+	/**
+	 * Reads the cycle of the key at the position of a buffer and advances the position by {@link #keyLength}.
+	 *
+	 * @param src the buffer, not null
+	 * @return the cycle
+	 * @throws BufferUnderflowException if less than {@link #keyLength} bytes remain
+	 */
+	@NotNull
+	public static Airac get(@NotNull ByteBuffer src) {
+		if (src.remaining() < keyLength) {
+			throw new BufferUnderflowException();
+		}
+		final Airac airac = get(src, src.position());
+		src.position(src.position() + keyLength);
+		return airac;
+	}
+
+	/**
+	 * Reads the cycle of the key at the absolute {@code index} of a heap or direct buffer, without copying the key out
+	 * of the buffer. The position of the buffer is not changed.
+	 *
+	 * @param src   the buffer, not null
+	 * @param index the index of the key
+	 * @return the cycle
+	 * @throws IndexOutOfBoundsException if there are less than {@link #keyLength} bytes at {@code index}
+	 */
+	@NotNull
+	public static Airac get(@NotNull ByteBuffer src, int index) {
+		return Airac.of(serialAt(src, index));
+	}
+
+	/**
+	 * Returns the serial of the cycle of the key at offset {@code off} of a byte array, without allocating anything.
+	 *
+	 * @param src the byte array, not null
+	 * @param off the offset of the key
+	 * @return the serial of the cycle
+	 * @throws IndexOutOfBoundsException if there are less than {@link #keyLength} bytes at {@code off}
+	 * @see Airac#getSerial()
+	 */
+	public static int serialAt(@NotNull byte[] src, int off) {
+		checkBounds(src.length, off);
+		final int key = src[off] << 24 | (src[off + 1] & 0xff) << 16 | (src[off + 2] & 0xff) << 8 | src[off + 3] & 0xff;
+		return serialOf(key);
+	}
+
+	/**
+	 * Returns the serial of the cycle of the key at the absolute {@code index} of a heap or direct buffer, without
+	 * allocating anything. The position of the buffer is not changed.
+	 *
+	 * @param src   the buffer, not null
+	 * @param index the index of the key
+	 * @return the serial of the cycle
+	 * @throws IndexOutOfBoundsException if there are less than {@link #keyLength} bytes at {@code index}
+	 * @see Airac#getSerial()
+	 */
+	public static int serialAt(@NotNull ByteBuffer src, int index) {
+		checkBounds(src.limit(), index);
+		final int key = src.get(index) << 24 | (src.get(index + 1) & 0xff) << 16 | (src.get(index + 2) & 0xff) << 8
+				| src.get(index + 3) & 0xff;
+		return serialOf(key);
+	}
+
+	/**
+	 * Returns the inclusive lower bound of a range scan over the cycles from {@code first} onwards, i.e. the key of
+	 * {@code first}.
+	 * <p>
+	 * As keys have a fixed length, every composite key that is prefixed by the key of a cycle from {@code first}
+	 * onwards sorts at or above the bound.
+	 *
+	 * @param first the first cycle of the range, not null
+	 * @return a new array holding the inclusive lower bound
+	 * @see #upperBound(Airac)
+	 */
+	@NotNull
+	public static byte[] lowerBound(@NotNull Airac first) {
+		return toKey(first);
+	}
+
+	/**
+	 * Returns the exclusive upper bound of a range scan over the cycles until {@code last} inclusive, i.e. the key of
+	 * the cycle after {@code last}.
+	 * <p>
+	 * Every composite key that is prefixed by the key of a cycle until {@code last} sorts below the bound. There is no
+	 * such bound if {@code last} is the last cycle that can be represented, in which case the range is unbounded.
+	 *
+	 * @param last the last cycle of the range, not null
+	 * @return a new array holding the exclusive upper bound, or null if the range is unbounded
+	 * @see #lowerBound(Airac)
+	 */
+	@Nullable
+	@Contract("null -> fail")
+	public static byte[] upperBound(@NotNull Airac last) {
+		if (last.getSerial() == Integer.MAX_VALUE) {
+			return null;
+		}
+		final byte[] key = new byte[keyLength];
+		ByteBuffer.wrap(key).putInt(keyOf(last.getSerial() + 1));
+		return key;
+	}
+
+	private static int keyOf(int serial) {
+		return serial ^ Integer.MIN_VALUE;
+	}
+
+	private static int serialOf(int key) {
+		return key ^ Integer.MIN_VALUE;
+	}
+
+	private static void checkBounds(int length, int index) {
+		if (index < 0 || index > length - keyLength) {
+			throw new IndexOutOfBoundsException(String.format("key at %d, length %d", index, length));
+		}
+	}
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ko_sys.av.airac;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Runs actions at AIRAC effective dates, or at lead times before them.
+ * <p>
+ * All registered actions share a single timer thread that sleeps on a priority queue of trigger times until the
+ * earliest one is due, and then hands the action over to an {@link Executor}. On Java 21 and later an executor of
+ * virtual threads, e.g. {@code Executors.newVirtualThreadPerTaskExecutor()}, is a good fit for many actions.
+ * <p>
+ * The trigger times are computed from a {@link Clock}, which is re-read at least once a minute, so that jumps of the
+ * clock are noticed. If the clock jumps forward past several triggers of an action, the action runs once, for the
+ * latest of these cycles. An action never runs twice for the same cycle, even if the clock jumps back.
+ * <p>
+ * Exceptions thrown by the executor, or by actions that the executor runs directly, are reported to the
+ * {@link Thread.UncaughtExceptionHandler} of the timer thread and do not affect the other actions.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @since 1.8
+ */
+@ThreadSafe
+public final class AiracScheduler implements AutoCloseable {
+	/**
+	 * Maximum time the timer sleeps before re-reading the clock.
+	 */
+	private static final long maxSleepMillis = 60_000;
+
+	private final Clock clock;
+	private final Executor executor;
+	private final Object lock = new Object();
+	@GuardedBy("lock")
+	private final PriorityQueue<Job> queue = new PriorityQueue<>(Comparator.comparingLong(job -> job.triggerEpochMilli));
+	@GuardedBy("lock")
+	private Thread timer;
+	@GuardedBy("lock")
+	private boolean closed;
+
+	/**
+	 * A registered action.
+	 */
+	public interface Registration {
+		/**
+		 * Cancels the action. It does not run after this method returns, unless it had already been handed over to the
+		 * executor.
+		 */
+		void cancel();
+	}
+
+	/**
+	 * Creates a scheduler.
+	 *
+	 * @param clock    the clock that determines the trigger times, not null
+	 * @param executor the executor that runs the actions, not null
+	 */
+	public AiracScheduler(@NotNull Clock clock, @NotNull Executor executor) {
+		this.clock = Objects.requireNonNull(clock, "clock");
+		this.executor = Objects.requireNonNull(executor, "executor");
+	}
+
+	/**
+	 * Registers an action that runs at each AIRAC effective date, minus a lead time.
+	 * <p>
+	 * The action receives the AIRAC cycle that becomes effective, e.g. with a lead time of 28 days it runs when the
+	 * predecessor of that cycle becomes effective. The first run is for the first cycle whose trigger time is after
+	 * now.
+	 *
+	 * @param leadTime the lead time before the effective dates, not negative, not null
+	 * @param action   the action, not null
+	 * @return the registration of the action
+	 * @throws IllegalArgumentException if the lead time is negative
+	 * @throws IllegalStateException    if this scheduler has been closed
+	 */
+	@NotNull
+	public Registration schedule(@NotNull Duration leadTime, @NotNull Consumer<? super Airac> action) {
+		Objects.requireNonNull(leadTime, "leadTime");
+		Objects.requireNonNull(action, "action");
+		if (leadTime.isNegative()) {
+			throw new IllegalArgumentException("negative lead time: " + leadTime);
+		}
+
+		final Job job = new Job(leadTime.toMillis(), action);
+		synchronized (lock) {
+			if (closed) {
+				throw new IllegalStateException("scheduler is closed");
+			}
+			job.scheduleAfter(clock.millis());
+			queue.add(job);
+			lock.notifyAll();
+		}
+		return () -> {
+			synchronized (lock) {
+				queue.remove(job);
+			}
+		};
+	}
+
+	/**
+	 * Starts the timer thread. Does nothing if it has already been started.
+	 *
+	 * @throws IllegalStateException if this scheduler has been closed
+	 */
+	public void start() {
+		synchronized (lock) {
+			if (closed) {
+				throw new IllegalStateException("scheduler is closed");
+			}
+			if (timer == null) {
+				timer = new Thread(this::runTimer, "airac-scheduler");
+				timer.setDaemon(true);
+				timer.start();
+			}
+		}
+	}
+
+	/**
+	 * Stops the timer thread and cancels all actions. Actions that have already been handed over to the executor are
+	 * not affected.
+	 */
+	@Override
+	public void close() {
+		synchronized (lock) {
+			closed = true;
+			queue.clear();
+			lock.notifyAll();
+		}
+	}
+
+	private void runTimer() {
+		try {
+			while (true) {
+				synchronized (lock) {
+					while (!closed) {
+						final Job head = queue.peek();
+						final long wait = head == null
+								? maxSleepMillis
+								: Math.min(head.triggerEpochMilli - clock.millis(), maxSleepMillis);
+						if (wait <= 0) {
+							break;
+						}
+						try {
+							lock.wait(wait);
+						} catch (InterruptedException e) {
+							closed = true;
+						}
+					}
+					if (closed) {
+						return;
+					}
+				}
+				runDue();
+			}
+		} finally {
+			// if the timer dies, e.g. because the clock failed, new registrations must fail instead of never running
+			close();
+		}
+	}
+
+	/**
+	 * Hands all actions that are due according to the clock over to the executor and schedules their next runs.
+	 *
+	 * @return the number of actions handed over
+	 */
+	int runDue() {
+		final List<Runnable> due = new ArrayList<>();
+		synchronized (lock) {
+			final long now = clock.millis();
+			Job job;
+			while ((job = queue.peek()) != null && job.triggerEpochMilli <= now) {
+				queue.poll();
+				// the latest cycle whose trigger time has passed, in case the clock jumped past several
+				final Airac airac = Airac.fromEpochMilli(now + job.leadMillis);
+				if (airac.getSerial() > job.lastSerial) {
+					job.lastSerial = airac.getSerial();
+					final Consumer<? super Airac> action = job.action;
+					due.add(() -> action.accept(airac));
+				}
+				job.scheduleAfter(now);
+				queue.add(job);
+			}
+		}
+		for (Runnable runnable : due) {
+			try {
+				executor.execute(runnable);
+			} catch (RuntimeException e) {
+				// neither a rejecting executor nor an action failing on a direct executor may stop the other actions
+				report(e);
+			}
+		}
+		return due.size();
+	}
+
+	private static void report(@NotNull Throwable e) {
+		final Thread thread = Thread.currentThread();
+		thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+	}
+
+	/**
+	 * A registered action and its next trigger time.
+	 */
+	private static final class Job {
+		final long leadMillis;
+		final Consumer<? super Airac> action;
+		long triggerEpochMilli;
+		int lastSerial = Integer.MIN_VALUE;
+
+		Job(long leadMillis, @NotNull Consumer<? super Airac> action) {
+			this.leadMillis = leadMillis;
+			this.action = action;
+		}
+
+		/**
+		 * Sets the trigger time to that of the first cycle, whose trigger time is after {@code now}.
+		 */
+		void scheduleAfter(long now) {
+			final Airac next = Airac.fromEpochMilli(now + leadMillis).getNext();
+			triggerEpochMilli = next.getEffectiveEpochMilli() - leadMillis;
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * The serialized form of {@link Airac}.
+ * <p>
+ * Writes nothing but the serial of the cycle, and resolves to the canonical instance when read.
+ *
+ * @serial include
+ * @since 1.8
+ */
+final class AiracSer implements Externalizable {
+	/**
+	 * Serialization version.
+	 */
+	private static final long serialVersionUID = 19010110L;
+
+	/**
+	 * The serial of the cycle being serialized or deserialized.
+	 */
+	private int serial;
+
+	/**
+	 * Constructor for deserialization.
+	 */
+	public AiracSer() {
+	}
+
+	/**
+	 * Creates an instance for serialization.
+	 *
+	 * @param serial the serial of the cycle
+	 */
+	AiracSer(int serial) {
+		this.serial = serial;
+	}
+
+	/**
+	 * Writes the serial of the cycle as an {@code int}.
+	 *
+	 * @param out the data stream to write to, not null
+	 * @throws IOException if an I/O error occurs
+	 */
+	@Override
+	public void writeExternal(ObjectOutput out) throws IOException {
+		out.writeInt(serial);
+	}
+
+	/**
+	 * Reads the serial of the cycle as an {@code int}.
+	 *
+	 * @param in the data stream to read from, not null
+	 * @throws IOException if an I/O error occurs
+	 */
+	@Override
+	public void readExternal(ObjectInput in) throws IOException {
+		serial = in.readInt();
+	}
+
+	/**
+	 * Resolves to the canonical instance of the cycle.
+	 *
+	 * @return the canonical instance of the cycle
+	 */
+	private Object readResolve() {
+		return Airac.of(serial);
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Calculations on AIRAC cycle serials as {@code long} values, valid across the full range of {@link Instant} and
+ * beyond.
+ * <p>
+ * A serial is the number of cycles since the internal epoch of 1901-01-10, as of {@link Airac#getSerial()}. Points in
+ * time are mapped to the cycle that was current at that time with floor semantics, so that instants before the
+ * epoch map to negative serials of the correct cycle. All methods run in constant time.
+ * <p>
+ * {@link Airac} itself uses {@code int} serials, which cover some 160 million years around the epoch. This class
+ * allows to bucket points in time that are further out, or to pass serials around without range checks.
+ *
+ * @see Airac#fromSerial(int)
+ * @since 1.8
+ */
+public final class AiracSerials {
+	/**
+	 * The {@code epoch} as seconds since 1970-01-01T00:00:00Z, split into whole cycles and the remainder, so that
+	 * seconds can be made relative to the epoch after the division without overflowing.
+	 */
+	private static final long epochSecondCycles = Math.floorDiv(Airac.epochSecond, Airac.cycleSeconds);
+	private static final long epochSecondRemainder = Math.floorMod(Airac.epochSecond, Airac.cycleSeconds);
+	/**
+	 * The {@code epoch} as days since 1970-01-01, split like the seconds.
+	 */
+	private static final long epochDayCycles = Math.floorDiv(Airac.epochDay, Airac.cycleDays);
+	private static final long epochDayRemainder = Math.floorMod(Airac.epochDay, Airac.cycleDays);
+
+	private AiracSerials() {
+	}
+
+	/**
+	 * Returns the serial of the cycle that was current at an {@link Instant}.
+	 *
+	 * @param instant the point in time, not null
+	 * @return the serial of the cycle
+	 */
+	public static long ofInstant(@NotNull Instant instant) {
+		Objects.requireNonNull(instant, "instant");
+		return ofEpochSecond(instant.getEpochSecond());
+	}
+
+	/**
+	 * Returns the serial of the cycle that was current at a point in time given as milliseconds since
+	 * 1970-01-01T00:00:00Z.
+	 *
+	 * @param epochMilli the point in time
+	 * @return the serial of the cycle
+	 */
+	public static long ofEpochMilli(long epochMilli) {
+		return ofEpochSecond(Math.floorDiv(epochMilli, 1000));
+	}
+
+	/**
+	 * Returns the serial of the cycle that was current at a point in time given as seconds since
+	 * 1970-01-01T00:00:00Z.
+	 *
+	 * @param epochSecond the point in time
+	 * @return the serial of the cycle
+	 */
+	public static long ofEpochSecond(long epochSecond) {
+		final long cycles = Math.floorDiv(epochSecond, Airac.cycleSeconds);
+		final long remainder = epochSecond - cycles * Airac.cycleSeconds;
+		return cycles - epochSecondCycles - (remainder < epochSecondRemainder ? 1 : 0);
+	}
+
+	/**
+	 * Returns the serial of the cycle that was current on a day given as days since 1970-01-01.
+	 *
+	 * @param epochDay the day
+	 * @return the serial of the cycle
+	 */
+	public static long ofEpochDay(long epochDay) {
+		final long cycles = Math.floorDiv(epochDay, Airac.cycleDays);
+		final long remainder = epochDay - cycles * Airac.cycleDays;
+		return cycles - epochDayCycles - (remainder < epochDayRemainder ? 1 : 0);
+	}
+
+	/**
+	 * Returns the effective date of the cycle with the {@code serial} as days since 1970-01-01.
+	 *
+	 * @param serial the serial of the cycle
+	 * @return the effective date as epoch day
+	 * @throws ArithmeticException if the result overflows a {@code long}
+	 */
+	public static long effectiveEpochDay(long serial) {
+		return Math.addExact(Airac.epochDay, Math.multiplyExact(serial, Airac.cycleDays));
+	}
+
+	/**
+	 * Returns the effective date of the cycle with the {@code serial} as seconds since 1970-01-01T00:00:00Z.
+	 *
+	 * @param serial the serial of the cycle
+	 * @return the effective date as epoch second
+	 * @throws ArithmeticException if the result overflows a {@code long}
+	 */
+	public static long effectiveEpochSecond(long serial) {
+		return Math.addExact(Airac.epochSecond, Math.multiplyExact(serial, Airac.cycleSeconds));
+	}
+
+	/**
+	 * Returns the proleptic Gregorian year of the cycle with the {@code serial}.
+	 *
+	 * @param serial the serial of the cycle
+	 * @return the year of the cycle
+	 * @throws ArithmeticException if the year overflows an {@code int}
+	 */
+	public static int year(long serial) {
+		return Math.toIntExact(Airac.yearOfEpochDay(effectiveEpochDay(serial)));
+	}
+
+	/**
+	 * Returns the ordinal of the cycle with the {@code serial} within its year.
+	 *
+	 * @param serial the serial of the cycle
+	 * @return the ordinal of the cycle, starting at 1
+	 * @throws ArithmeticException if the year of the cycle overflows an {@code int}
+	 */
+	public static int ordinal(long serial) {
+		final long day = effectiveEpochDay(serial);
+		return (int) ((day - Airac.firstDayOfYear(year(serial))) / Airac.cycleDays) + 1;
+	}
+}
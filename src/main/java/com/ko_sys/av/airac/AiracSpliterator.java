@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ko_sys.av.airac;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A spliterator over a range of consecutive AIRAC cycles.
+ * <p>
+ * Splits into halves of equal size, so that parallel streams over long ranges balance well.
+ */
+final class AiracSpliterator implements Spliterator<Airac> {
+	private static final int characteristics =
+			SIZED | SUBSIZED | ORDERED | SORTED | IMMUTABLE | DISTINCT | NONNULL;
+
+	/**
+	 * Serial of the next cycle to visit.
+	 */
+	private long from;
+	/**
+	 * Serial of the first cycle after the range.
+	 */
+	private final long to;
+
+	/**
+	 * Creates a spliterator over the serials {@code from} inclusive until {@code to} exclusive.
+	 *
+	 * @param from the serial of the first cycle
+	 * @param to   the serial after the last cycle
+	 */
+	AiracSpliterator(long from, long to) {
+		this.from = from;
+		this.to = Math.max(from, to);
+	}
+
+	@Override
+	public boolean tryAdvance(@NotNull Consumer<? super Airac> action) {
+		Objects.requireNonNull(action);
+		if (from >= to) {
+			return false;
+		}
+		action.accept(Airac.of((int) from++));
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(@NotNull Consumer<? super Airac> action) {
+		Objects.requireNonNull(action);
+		final long end = to;
+		long serial = from;
+		from = end;
+		for (; serial < end; serial++) {
+			action.accept(Airac.of((int) serial));
+		}
+	}
+
+	@Nullable
+	@Override
+	public Spliterator<Airac> trySplit() {
+		final long mid = from + (to - from) / 2;
+		if (mid <= from) {
+			return null;
+		}
+		final AiracSpliterator prefix = new AiracSpliterator(from, mid);
+		from = mid;
+		return prefix;
+	}
+
+	@Override
+	public long estimateSize() {
+		return to - from;
+	}
+
+	@Override
+	public int characteristics() {
+		return characteristics;
+	}
+
+	@Nullable
+	@Override
+	public Comparator<? super Airac> getComparator() {
+		// natural order
+		return null;
+	}
+}
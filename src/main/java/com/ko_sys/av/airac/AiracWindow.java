@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import net.jcip.annotations.Immutable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * The result of aggregating the events of an AIRAC cycle, as emitted by {@link AiracWindowOperator}.
+ * <p>
+ * The window spans the cycle from its effective date inclusive until the effective date of its successor exclusive.
+ * This class is immutable and thread-safe if the result is.
+ *
+ * @param <R> the type of the result
+ * @since 1.8
+ */
+@Immutable
+public final class AiracWindow<R> {
+	private final Airac cycle;
+	private final R result;
+
+	/**
+	 * Creates a window of a cycle.
+	 *
+	 * @param cycle  the cycle of the window, not null
+	 * @param result the result of the window
+	 */
+	public AiracWindow(@NotNull Airac cycle, @Nullable R result) {
+		this.cycle = Objects.requireNonNull(cycle, "cycle");
+		this.result = result;
+	}
+
+	/**
+	 * Returns the cycle of this window.
+	 *
+	 * @return the cycle of this window
+	 */
+	@NotNull
+	public Airac getCycle() {
+		return cycle;
+	}
+
+	/**
+	 * Returns the first millisecond of this window as milliseconds since 1970-01-01T00:00:00Z.
+	 *
+	 * @return the inclusive start of this window
+	 */
+	public long getStartEpochMilli() {
+		return cycle.getEffectiveEpochMilli();
+	}
+
+	/**
+	 * Returns the first millisecond after this window as milliseconds since 1970-01-01T00:00:00Z, i.e. the effective
+	 * date of the next cycle.
+	 *
+	 * @return the exclusive end of this window
+	 */
+	public long getEndEpochMilli() {
+		return cycle.getNext().getEffectiveEpochMilli();
+	}
+
+	/**
+	 * Returns the result of this window.
+	 *
+	 * @return the result of this window
+	 */
+	@Nullable
+	public R getResult() {
+		return result;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof AiracWindow)) {
+			return false;
+		}
+		final AiracWindow<?> other = (AiracWindow<?>) o;
+		return cycle.equals(other.cycle) && Objects.equals(result, other.result);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * cycle.hashCode() + Objects.hashCode(result);
+	}
+
+	@NotNull
+	@Override
+	public String toString() {
+		return cycle + "=" + result;
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * Aggregates a stream of timestamped events in tumbling windows that are aligned to AIRAC cycles.
+ * <p>
+ * Events are assigned to the cycle that was current at their timestamp, given as milliseconds since
+ * 1970-01-01T00:00:00Z, and accumulated by a {@link Collector} into a mutable container per cycle. The containers
+ * are kept in an {@link AiracIntMap}, hence assigning an event takes a division and an array lookup.
+ * <p>
+ * The watermark is the caller's assertion that no more events with earlier timestamps are expected. A window is
+ * closed and emitted, after applying the finisher of the collector, once the watermark passes its end, i.e. the
+ * effective date of the next cycle, plus the allowed lateness in cycles. Until then late events are still added to
+ * the window. Events of closed windows are dropped and counted. Windows are emitted in ascending order of their
+ * cycles, each at most once.
+ * <p>
+ * For example, with an allowed lateness of one cycle, the window of "1605" (2016-04-28 until 2016-05-26) is emitted
+ * when the watermark reaches 2016-06-23, when "1607" becomes effective.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <T> the type of the events
+ * @param <A> the type of the mutable containers of the collector
+ * @param <R> the type of the results of the windows
+ * @since 1.8
+ */
+@NotThreadSafe
+public final class AiracWindowOperator<T, A, R> {
+	private final Supplier<A> supplier;
+	private final BiConsumer<A, ? super T> accumulator;
+	private final Function<A, R> finisher;
+	private final int allowedLateness;
+	private final AiracIntMap<A> windows = new AiracIntMap<>();
+	/**
+	 * The serial of the first window that is not closed yet; windows before it have been emitted.
+	 */
+	private long openFrom = Long.MIN_VALUE;
+	private long watermark = Long.MIN_VALUE;
+	private long droppedEvents;
+
+	/**
+	 * Creates an operator.
+	 *
+	 * @param collector       the collector aggregating the events of a window, not null
+	 * @param allowedLateness the number of cycles that a window is kept open after its end
+	 * @throws IllegalArgumentException if {@code allowedLateness} is negative
+	 */
+	public AiracWindowOperator(@NotNull Collector<? super T, A, R> collector, int allowedLateness) {
+		if (allowedLateness < 0) {
+			throw new IllegalArgumentException("negative allowed lateness: " + allowedLateness);
+		}
+		Objects.requireNonNull(collector, "collector");
+		this.supplier = collector.supplier();
+		this.accumulator = collector.accumulator();
+		this.finisher = collector.finisher();
+		this.allowedLateness = allowedLateness;
+	}
+
+	/**
+	 * Returns the number of cycles that a window is kept open after its end.
+	 *
+	 * @return the allowed lateness in cycles
+	 */
+	public int getAllowedLateness() {
+		return allowedLateness;
+	}
+
+	/**
+	 * Returns the current watermark.
+	 *
+	 * @return the watermark as milliseconds since 1970-01-01T00:00:00Z, or {@link Long#MIN_VALUE} if there is none
+	 */
+	public long getWatermark() {
+		return watermark;
+	}
+
+	/**
+	 * Returns the number of events that have been dropped because their window was already closed.
+	 *
+	 * @return the number of dropped events
+	 */
+	public long getDroppedEvents() {
+		return droppedEvents;
+	}
+
+	/**
+	 * Returns the number of windows that are open.
+	 *
+	 * @return the number of open windows
+	 */
+	public int getOpenWindows() {
+		return windows.size();
+	}
+
+	/**
+	 * Adds an event to the window of the cycle that was current at its timestamp.
+	 *
+	 * @param epochMilli the timestamp of the event
+	 * @param event      the event
+	 * @return true if the event was added, false if it was dropped because its window was already closed
+	 * @throws ArithmeticException if the timestamp is beyond the range of {@link Airac}
+	 */
+	public boolean onEvent(long epochMilli, T event) {
+		final int serial = Airac.serialOfEpochMilli(epochMilli);
+		if (serial < openFrom) {
+			droppedEvents++;
+			return false;
+		}
+		A container = windows.getBySerial(serial);
+		if (container == null) {
+			container = supplier.get();
+			windows.putBySerial(serial, container);
+		}
+		accumulator.accept(container, event);
+		return true;
+	}
+
+	/**
+	 * Advances the watermark and emits the windows that it closes. A watermark before the current one is ignored.
+	 *
+	 * @param epochMilli the new watermark as milliseconds since 1970-01-01T00:00:00Z
+	 * @param sink       receives the closed windows in ascending order, not null
+	 */
+	public void advanceWatermark(long epochMilli, @NotNull Consumer<? super AiracWindow<R>> sink) {
+		Objects.requireNonNull(sink, "sink");
+		if (epochMilli <= watermark) {
+			return;
+		}
+		watermark = epochMilli;
+		// the window of a serial ends when the next cycle becomes effective
+		final long closedBefore = AiracSerials.ofEpochMilli(epochMilli) - allowedLateness;
+		if (closedBefore > openFrom) {
+			openFrom = closedBefore;
+			emitBefore(closedBefore, sink);
+		}
+	}
+
+	/**
+	 * Emits all open windows, e.g. at the end of the stream. Events that are added afterwards open new windows,
+	 * unless they belong to a window that was already closed by the watermark.
+	 *
+	 * @param sink receives the windows in ascending order, not null
+	 */
+	public void flush(@NotNull Consumer<? super AiracWindow<R>> sink) {
+		Objects.requireNonNull(sink, "sink");
+		emitBefore(Long.MAX_VALUE, sink);
+	}
+
+	private void emitBefore(long serial, @NotNull Consumer<? super AiracWindow<R>> sink) {
+		final Map.Entry<Airac, A> first = windows.firstEntry();
+		if (first == null) {
+			return;
+		}
+		// a single pass upwards from the first window instead of searching the first window again for each one
+		for (long s = first.getKey().getSerial(); s < serial && !windows.isEmpty(); s++) {
+			final A accumulator = windows.getBySerial((int) s);
+			if (accumulator != null) {
+				final Airac cycle = Airac.of((int) s);
+				windows.remove(cycle);
+				sink.accept(new AiracWindow<>(cycle, finisher.apply(accumulator)));
+			}
+		}
+		if (windows.isEmpty()) {
+			// let the map start over at the next window instead of growing from the first one ever seen
+			windows.clear();
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class AiracArrayTest {
+	@Test
+	public void testAddGet() {
+		AiracArray array = new AiracArray(0);
+		Airac first = Airac.fromIdentifier("1601");
+		for (int i = 0; i < 100; i++) {
+			array.add(Airac.fromSerial(first.getSerial() + i));
+		}
+
+		assertEquals(100, array.size());
+		assertSame(first, array.get(0));
+		assertEquals(first.getSerial() + 99, array.getSerial(99));
+
+		array.set(99, first);
+		assertEquals(first, array.get(99));
+		array.clear();
+		assertTrue(array.isEmpty());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testOutOfBounds() {
+		AiracArray array = new AiracArray();
+		array.add(Airac.fromIdentifier("1601"));
+		array.getSerial(1);
+	}
+
+	@Test
+	public void testSortDistinctSearch() {
+		AiracArray array = AiracArray.ofSerials(5, 3, 5, 1, 3, 9, 1);
+
+		array.distinct();
+		assertArrayEquals(new int[]{5, 3, 1, 9}, array.toSerialArray());
+
+		array.sort();
+		assertArrayEquals(new int[]{1, 3, 5, 9}, array.toSerialArray());
+
+		assertEquals(2, array.binarySearch(Airac.fromSerial(5)));
+		assertEquals(-3, array.binarySearch(Airac.fromSerial(4)));
+		assertEquals(3, array.indexOf(Airac.fromSerial(9)));
+		assertEquals(-1, array.indexOf(Airac.fromSerial(4)));
+		assertTrue(array.contains(Airac.fromSerial(1)));
+	}
+
+	@Test
+	public void testListView() {
+		AiracArray array = new AiracArray();
+		array.add(Airac.fromIdentifier("1605"));
+		array.add(Airac.fromIdentifier("1606"));
+		List<Airac> list = array.asList();
+
+		assertEquals(Arrays.asList(Airac.fromIdentifier("1605"), Airac.fromIdentifier("1606")), list);
+		assertEquals("[1605, 1606]", array.toString());
+		assertEquals(1, list.indexOf(Airac.fromIdentifier("1606")));
+
+		array.add(Airac.fromIdentifier("1607"));
+		assertEquals(3, list.size());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testListViewReadOnly() {
+		new AiracArray().asList().add(Airac.fromIdentifier("1605"));
+	}
+
+	@Test
+	public void testEqualsHashCode() {
+		AiracArray left = AiracArray.ofSerials(1, 2, 3);
+		AiracArray right = new AiracArray();
+		right.addAll(left);
+		right.trimToSize();
+
+		assertEquals(left, right);
+		assertEquals(left.hashCode(), right.hashCode());
+		right.addSerial(4);
+		assertNotEquals(left, right);
+	}
+}
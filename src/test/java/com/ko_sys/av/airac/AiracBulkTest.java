@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AiracBulkTest {
+	private static final int n = 10000;
+	private static final long minMilli = Airac.epoch.toEpochMilli();
+	private static final long maxMilli = Airac.fromIdentifier("6313").getEffectiveEpochMilli();
+
+	private static long[] randomEpochMillis() {
+		Random random = new Random(19010110L);
+		long[] millis = new long[n];
+		for (int i = 0; i < n; i++) {
+			millis[i] = minMilli + (long) (random.nextDouble() * (maxMilli - minMilli));
+		}
+		return millis;
+	}
+
+	@Test
+	public void testSerials() {
+		long[] millis = randomEpochMillis();
+		long[] seconds = new long[n];
+		for (int i = 0; i < n; i++) {
+			seconds[i] = Math.floorDiv(millis[i], 1000);
+		}
+		int[] fromMillis = new int[n + 2];
+		int[] fromSeconds = new int[n + 2];
+		AiracBulk.serialsOfEpochMillis(millis, 0, fromMillis, 1, n);
+		AiracBulk.serialsOfEpochSeconds(seconds, 0, fromSeconds, 1, n);
+
+		for (int i = 0; i < n; i++) {
+			int want = Airac.fromEpochMilli(millis[i]).getSerial();
+			assertEquals(want, fromMillis[i + 1]);
+			assertEquals(want, fromSeconds[i + 1]);
+		}
+		assertEquals(0, fromMillis[0]);
+		assertEquals(0, fromMillis[n + 1]);
+	}
+
+	@Test
+	public void testSerialsFromBuffers() {
+		long[] millis = randomEpochMillis();
+		LongBuffer heap = LongBuffer.wrap(millis);
+		LongBuffer direct = ByteBuffer.allocateDirect(n * 8).asLongBuffer().put(millis);
+		direct.flip();
+
+		int[] fromHeap = new int[n];
+		int[] fromDirect = new int[n];
+		AiracBulk.serialsOfEpochMillis(heap, fromHeap, 0, n / 2);
+		AiracBulk.serialsOfEpochMillis(heap, fromHeap, n / 2, n - n / 2);
+		AiracBulk.serialsOfEpochMillis(direct, fromDirect, 0, n);
+
+		assertEquals(n, heap.position());
+		assertEquals(n, direct.position());
+		for (int i = 0; i < n; i++) {
+			int want = Airac.fromEpochMilli(millis[i]).getSerial();
+			assertEquals(want, fromHeap[i]);
+			assertEquals(want, fromDirect[i]);
+		}
+	}
+
+	@Test
+	public void testIdentifierCodesAndIndexes() {
+		long[] millis = randomEpochMillis();
+		Airac base = Airac.fromIdentifier("2001");
+		int[] codes = new int[n];
+		int[] indexes = new int[n];
+		AiracBulk.identifierCodesOfEpochMillis(millis, 0, codes, 0, n);
+		AiracBulk.indexesOfEpochMillis(base, millis, 0, indexes, 0, n);
+
+		for (int i = 0; i < n; i++) {
+			Airac airac = Airac.fromEpochMilli(millis[i]);
+			assertEquals(airac.toString(), String.format("%04d", codes[i]));
+			assertEquals(airac, Airac.fromSerial(base.getSerial() + indexes[i]));
+		}
+	}
+
+	@Test
+	public void testValidateIdentifierCodes() {
+		int[] codes = new int[10002];
+		for (int i = 0; i < codes.length; i++) {
+			codes[i] = i - 1;
+		}
+		long[] bits = new long[(codes.length - 1 + 63) / 64];
+		Arrays.fill(bits, -1);
+
+		int valid = AiracBulk.validateIdentifierCodes(codes, 1, bits, codes.length - 1);
+
+		BitSet set = BitSet.valueOf(bits);
+		assertEquals(set.cardinality(), valid);
+		assertEquals(Airac.fromIdentifier("6313").getSerial() - Airac.fromIdentifier("6401").getSerial() + 1, valid);
+		for (int i = 0; i < codes.length - 1; i++) {
+			assertEquals(String.valueOf(codes[i + 1]), Airac.isValidIdentifierCode(codes[i + 1]), set.get(i));
+		}
+	}
+
+	@Test
+	public void testValidateIdentifiers() {
+		String[] identifiers = {"1605", "1514", "9999", "16a5", "2013", "6313", "6314", "0001"};
+		byte[] records = new byte[identifiers.length * 10 + 3];
+		for (int i = 0; i < identifiers.length; i++) {
+			byte[] bytes = identifiers[i].getBytes(StandardCharsets.US_ASCII);
+			System.arraycopy(bytes, 0, records, 3 + i * 10, 4);
+		}
+		long[] bits = new long[1];
+
+		assertEquals(4, AiracBulk.validateIdentifiers(records, 3, 10, bits, identifiers.length));
+		for (int i = 0; i < identifiers.length; i++) {
+			assertEquals(identifiers[i], Airac.isValidIdentifier(identifiers[i]), (bits[0] & 1L << i) != 0);
+		}
+		assertTrue(Airac.isValidIdentifier("1605"));
+		assertFalse(Airac.isValidIdentifier("1514"));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testValidateIdentifiersOutOfBounds() {
+		AiracBulk.validateIdentifiers(new byte[23], 0, 10, new long[1], 3);
+	}
+
+	@Test
+	public void testSerialsFromLimitedBuffers() {
+		long[] millis = randomEpochMillis();
+		LongBuffer sliced = LongBuffer.wrap(millis, 2, 8).slice();
+		int[] serials = new int[8];
+		AiracBulk.serialsOfEpochMillis(sliced, serials, 0, 8);
+		for (int i = 0; i < 8; i++) {
+			assertEquals(Airac.fromEpochMilli(millis[i + 2]).getSerial(), serials[i]);
+		}
+
+		LongBuffer limited = LongBuffer.wrap(millis, 0, 4);
+		Arrays.fill(serials, -1);
+		try {
+			AiracBulk.serialsOfEpochMillis(limited, serials, 0, 8);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals(0, limited.position());
+			assertArrayEquals(new int[]{-1, -1, -1, -1, -1, -1, -1, -1}, serials);
+		}
+	}
+
+	@Test
+	public void testSerialsOfExtremes() {
+		// spans all int serials, for which the differences to the first cycle overflow in milliseconds
+		long[] millis = {
+				AiracSerials.effectiveEpochSecond(Integer.MAX_VALUE) * 1000 + 1,
+				AiracSerials.effectiveEpochSecond(Integer.MIN_VALUE) * 1000,
+				minMilli - 1,
+				maxMilli,
+		};
+		int[] serials = new int[millis.length];
+		AiracBulk.serialsOfEpochMillis(millis, 0, serials, 0, millis.length);
+		assertArrayEquals(new int[]{Integer.MAX_VALUE, Integer.MIN_VALUE, -1, Airac.fromEpochMilli(maxMilli).getSerial()},
+				serials);
+
+		long[] seconds = {millis[0] / 1000, millis[1] / 1000, -1, 0};
+		AiracBulk.serialsOfEpochSeconds(seconds, 0, serials, 0, seconds.length);
+		assertEquals(Integer.MAX_VALUE, serials[0]);
+		assertEquals(Integer.MIN_VALUE, serials[1]);
+		assertEquals(Airac.fromEpochSecond(-1).getSerial(), serials[2]);
+		assertEquals(Airac.fromEpochSecond(0).getSerial(), serials[3]);
+	}
+
+	@Test
+	public void testSerialOverflow() {
+		long[] millis = {maxMilli, AiracSerials.effectiveEpochSecond(Integer.MAX_VALUE + 1L) * 1000};
+		int[] serials = {-1, -1};
+		try {
+			AiracBulk.serialsOfEpochMillis(millis, 0, serials, 0, millis.length);
+			fail();
+		} catch (ArithmeticException e) {
+			assertArrayEquals(new int[]{-1, -1}, serials);
+		}
+	}
+
+	@Test
+	public void testIndexOverflow() {
+		// both serials fit into an int, but the index of the later one relative to the earlier one does not
+		Airac base = Airac.fromSerial(-2);
+		long[] seconds = {0, AiracSerials.effectiveEpochSecond(Integer.MAX_VALUE)};
+		int[] indexes = {-1, -1};
+		try {
+			AiracBulk.indexesOfEpochSeconds(base, seconds, 0, indexes, 0, seconds.length);
+			fail();
+		} catch (ArithmeticException e) {
+			assertArrayEquals(new int[]{-1, -1}, indexes);
+		}
+
+		AiracBulk.indexesOfEpochSeconds(Airac.fromSerial(0), seconds, 0, indexes, 0, seconds.length);
+		assertEquals(Integer.MAX_VALUE, indexes[1]);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testOutOfBounds() {
+		AiracBulk.serialsOfEpochSeconds(new long[4], 1, new int[4], 0, 4);
+	}
+}
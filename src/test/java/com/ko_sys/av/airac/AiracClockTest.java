@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import org.junit.Test;
+
+import java.time.Instant;
+
+import static org.junit.Assert.*;
+
+public class AiracClockTest {
+	@Test
+	public void testRollover() {
+		Airac airac = Airac.fromIdentifier("1605");
+		MutableClock clock = new MutableClock(airac.getEffective());
+		AiracClock airacClock = new AiracClock(clock);
+
+		assertSame(clock, airacClock.getClock());
+		assertEquals(airac, airacClock.current());
+		assertEquals(airac.getNext(), airacClock.next());
+		assertEquals(airac.getPrevious(), airacClock.previous());
+		assertEquals(airac.getNext().getEffectiveEpochMilli(), airacClock.nextEffectiveEpochMilli());
+
+		clock.set(airac.getNext().getEffective().minusMillis(1));
+		assertEquals(airac, airacClock.current());
+
+		clock.set(airac.getNext().getEffective());
+		assertEquals(airac.getNext(), airacClock.current());
+		assertEquals(airac, airacClock.previous());
+
+		// jumps in both directions
+		clock.set(Instant.parse("2030-06-01T00:00:00Z"));
+		assertEquals(Airac.fromInstant(clock.instant()), airacClock.current());
+		clock.set(airac.getEffective().minusMillis(1));
+		assertEquals(airac.getPrevious(), airacClock.current());
+	}
+
+	@Test
+	public void testSystemClock() {
+		AiracClock airacClock = new AiracClock();
+		Airac before = Airac.fromInstant(Instant.now());
+		Airac current = airacClock.current();
+		Airac after = Airac.fromInstant(Instant.now());
+
+		assertTrue(before.compareTo(current) <= 0);
+		assertTrue(current.compareTo(after) <= 0);
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.Assert.*;
+
+public class AiracCodecTest {
+	private static final Airac[] cycles = {
+			Airac.fromIdentifier("1605"), Airac.fromIdentifier("6401"), Airac.fromIdentifier("6313"),
+			Airac.fromSerial(0), Airac.fromSerial(-1), Airac.fromSerial(Short.MIN_VALUE),
+			Airac.fromSerial(Short.MAX_VALUE), Airac.fromSerial(255), Airac.fromSerial(256)};
+
+	@Test
+	public void testDataStreams() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			for (Airac airac : cycles) {
+				AiracCodec.write(out, airac);
+			}
+		}
+		assertEquals(cycles.length * AiracCodec.encodedLength, bytes.size());
+
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			for (Airac airac : cycles) {
+				assertEquals(airac, AiracCodec.read(in));
+			}
+		}
+
+		ByteArrayOutputStream one = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(one)) {
+			AiracCodec.write(out, cycles[0]);
+		}
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(one.toByteArray()))) {
+			assertSame(cycles[0], AiracCodec.read(in));
+		}
+	}
+
+	@Test
+	public void testBigEndian() {
+		Airac airac = Airac.fromIdentifier("1605");
+		byte[] bytes = new byte[2];
+		assertEquals(2, AiracCodec.put(bytes, 0, airac));
+		assertEquals(airac.getSerial(), (bytes[0] & 0xff) << 8 | bytes[1] & 0xff);
+
+		ByteBuffer little = ByteBuffer.allocate(2).order(ByteOrder.LITTLE_ENDIAN);
+		AiracCodec.put(little, airac);
+		assertArrayEquals(bytes, little.array());
+		assertEquals(airac, AiracCodec.get(little, 0));
+	}
+
+	@Test
+	public void testBuffers() {
+		for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64)}) {
+			for (Airac airac : cycles) {
+				AiracCodec.put(buffer, airac);
+			}
+			assertEquals(cycles.length * 2, buffer.position());
+			for (int i = 0; i < cycles.length; i++) {
+				assertEquals(cycles[i], AiracCodec.get(buffer, i * 2));
+			}
+
+			AiracCodec.put(buffer, 60, cycles[0]);
+			assertEquals(cycles.length * 2, buffer.position());
+
+			buffer.flip();
+			for (Airac airac : cycles) {
+				assertEquals(airac, AiracCodec.get(buffer));
+			}
+			assertFalse(buffer.hasRemaining());
+		}
+	}
+
+	@Test(expected = BufferOverflowException.class)
+	public void testBufferOverflowWritesNothing() {
+		ByteBuffer buffer = ByteBuffer.allocate(3);
+		buffer.position(2);
+		try {
+			AiracCodec.put(buffer, cycles[0]);
+		} finally {
+			assertEquals(2, buffer.position());
+		}
+	}
+
+	@Test
+	public void testAbsolutePutOutOfBoundsWritesNothing() {
+		ByteBuffer buffer = ByteBuffer.allocate(3);
+		for (int index : new int[]{-1, 2, 3}) {
+			try {
+				AiracCodec.put(buffer, index, Airac.fromIdentifier("1605"));
+				fail(String.valueOf(index));
+			} catch (IndexOutOfBoundsException e) {
+				assertArrayEquals(new byte[3], buffer.array());
+			}
+		}
+	}
+
+	@Test
+	public void testBulk() {
+		byte[] bytes = new byte[1 + cycles.length * 2];
+		assertEquals(bytes.length, AiracCodec.putAll(cycles, 0, bytes, 1, cycles.length));
+
+		Airac[] got = new Airac[cycles.length + 1];
+		assertEquals(bytes.length, AiracCodec.getAll(bytes, 1, got, 1, cycles.length));
+		assertNull(got[0]);
+		for (int i = 0; i < cycles.length; i++) {
+			assertEquals(cycles[i], got[i + 1]);
+			assertEquals(cycles[i], AiracCodec.get(bytes, 1 + i * 2));
+		}
+	}
+
+	@Test
+	public void testOutOfRange() {
+		for (Airac airac : new Airac[]{Airac.fromSerial(Short.MAX_VALUE + 1), Airac.fromSerial(Short.MIN_VALUE - 1)}) {
+			try {
+				AiracCodec.put(new byte[2], 0, airac);
+				fail("expected IllegalArgumentException for " + airac.getSerial());
+			} catch (IllegalArgumentException expected) {
+				// ok
+			}
+		}
+
+		byte[] bytes = new byte[6];
+		try {
+			AiracCodec.putAll(new Airac[]{cycles[0], cycles[1], Airac.fromSerial(1 << 20)}, 0, bytes, 0, 3);
+			fail("expected IllegalArgumentException");
+		} catch (IllegalArgumentException expected) {
+			assertArrayEquals(new byte[6], bytes);
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testOutOfBounds() {
+		AiracCodec.getAll(new byte[5], 0, new Airac[3], 0, 3);
+	}
+}
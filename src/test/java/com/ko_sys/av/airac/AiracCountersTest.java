@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class AiracCountersTest {
+	private static final long cycleMillis = 28L * 24 * 60 * 60 * 1000;
+
+	@Test
+	public void testCount() {
+		AiracCounters counters = new AiracCounters(4);
+		Airac airac = Airac.fromIdentifier("1605");
+		long effective = airac.getEffectiveEpochMilli();
+
+		counters.increment(effective);
+		counters.increment(effective + cycleMillis - 1);
+		counters.add(effective + cycleMillis, 5);
+		counters.add(airac.getPrevious(), 7);
+		counters.add(Airac.fromIdentifier("6401"), 1);
+
+		assertEquals(2, counters.sum(airac));
+		assertEquals(5, counters.sum(airac.getNext()));
+		assertEquals(7, counters.sum(airac.getPrevious()));
+		assertEquals(0, counters.sum(Airac.fromIdentifier("1001")));
+		assertEquals("{6401=1, 1604=7, 1605=2, 1606=5}", counters.snapshot().toString());
+
+		assertEquals("{6401=1, 1604=7, 1605=2, 1606=5}", counters.snapshotThenReset().toString());
+		assertTrue(counters.snapshot().isEmpty());
+		assertEquals(0, counters.sum(airac));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTooFarOff() {
+		AiracCounters counters = new AiracCounters();
+		counters.add(Airac.fromSerial(0), 1);
+		counters.add(Airac.fromSerial(AiracCounters.maxSpan), 1);
+	}
+
+	@Test
+	public void testConcurrentGrowthAndReset() throws InterruptedException {
+		AiracCounters counters = new AiracCounters();
+		int threads = 8;
+		int perThread = 200000;
+		long start = Airac.fromIdentifier("2001").getEffectiveEpochMilli();
+		AtomicLong drained = new AtomicLong();
+
+		List<Thread> writers = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			final int offset = t;
+			writers.add(new Thread(() -> {
+				for (int i = 0; i < perThread; i++) {
+					// walk forwards and backwards in time, so that the window grows in both directions concurrently
+					long cycle = (i / 1000) * (offset % 2 == 0 ? 1 : -1);
+					counters.increment(start + cycle * cycleMillis + i % 1000);
+				}
+			}));
+		}
+		Thread reader = new Thread(() -> {
+			while (!Thread.currentThread().isInterrupted()) {
+				counters.snapshotThenReset().forEach((airac, sum) -> drained.addAndGet(sum));
+			}
+		});
+
+		reader.start();
+		for (Thread writer : writers) {
+			writer.start();
+		}
+		for (Thread writer : writers) {
+			writer.join();
+		}
+		reader.interrupt();
+		reader.join();
+		counters.snapshotThenReset().forEach((airac, sum) -> drained.addAndGet(sum));
+
+		assertEquals((long) threads * perThread, drained.get());
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testSerialOverflow() {
+		new AiracCounters().increment(Long.MAX_VALUE);
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class AiracFormatTest {
+	private static String ascii(byte[] bytes, int from, int to) {
+		return new String(bytes, from, to - from, StandardCharsets.US_ASCII);
+	}
+
+	private static String ascii(ByteBuffer buffer) {
+		buffer.flip();
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.US_ASCII);
+	}
+
+	private static void assertFormats(Airac airac) throws IOException {
+		String wantShort = AiracFormat.formatShort(airac.getSerial());
+		String wantLong = AiracFormat.formatLong(airac.getSerial());
+
+		assertEquals(wantShort, airac.toString());
+		assertEquals(wantLong, airac.toLongString());
+		assertEquals("x" + wantShort, airac.appendTo(new StringBuilder("x")).toString());
+		assertEquals("x" + wantLong, airac.appendLongTo(new StringBuilder("x")).toString());
+		assertEquals(wantShort, airac.appendTo(new StringWriter()).toString());
+		assertEquals(wantLong, airac.appendLongTo(new StringWriter()).toString());
+
+		byte[] bytes = new byte[64];
+		assertEquals(1 + wantShort.length(), airac.writeAscii(bytes, 1));
+		assertEquals(wantShort, ascii(bytes, 1, 1 + wantShort.length()));
+		assertEquals(2 + wantLong.length(), airac.writeLongAscii(bytes, 2));
+		assertEquals(wantLong, ascii(bytes, 2, 2 + wantLong.length()));
+
+		for (ByteBuffer buffer : Arrays.asList(ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64))) {
+			assertEquals(wantShort + wantLong, ascii(airac.writeLongAscii(airac.writeAscii(buffer))));
+		}
+	}
+
+	@Test
+	public void testSameAsFormatter() throws IOException {
+		Airac last = Airac.fromIdentifier("6313").getNext();
+		for (Airac airac = Airac.fromSerial(0); airac.compareTo(last) <= 0; airac = airac.getNext()) {
+			assertFormats(airac);
+		}
+	}
+
+	@Test
+	public void testExamples() {
+		Airac airac = Airac.fromIdentifier("1209");
+		assertEquals("1209", airac.toString());
+		assertEquals("1209 (effective: 2012-08-23; expires: 2012-09-19)", airac.toLongString());
+		assertEquals("2014 (effective: 2020-12-31; expires: 2021-01-27)", Airac.fromIdentifier("2014").toLongString());
+	}
+
+	@Test
+	public void testOutsideOfFourDigitYears() throws IOException {
+		// years 0 and 9999 are formatted the fast way, years before and after fall back to the formatter
+		for (int year : new int[]{-5, -1, 0, 1, 9998, 9999, 10000, 12345}) {
+			Airac airac = Airac.fromEpochDay(LocalDate.of(year, 6, 1).toEpochDay());
+			for (Airac a = airac.getPrevious().getPrevious(); a.compareTo(airac.getNext().getNext()) <= 0; a = a.getNext()) {
+				assertFormats(a);
+			}
+		}
+		assertTrue(Airac.fromEpochDay(LocalDate.of(10000, 6, 1).toEpochDay()).toLongString().contains("+10000-"));
+	}
+
+	@Test
+	public void testOverflow() {
+		Airac airac = Airac.fromIdentifier("1605");
+		byte[] bytes = new byte[48];
+		try {
+			airac.writeLongAscii(bytes, 0);
+			fail();
+		} catch (IndexOutOfBoundsException expected) {
+			assertArrayEquals(new byte[48], bytes);
+		}
+		try {
+			airac.writeAscii(bytes, 45);
+			fail();
+		} catch (IndexOutOfBoundsException expected) {
+			assertArrayEquals(new byte[48], bytes);
+		}
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(3);
+		try {
+			airac.writeAscii(direct);
+			fail();
+		} catch (BufferOverflowException expected) {
+			assertEquals(0, direct.position());
+		}
+	}
+
+	@Test
+	public void testCachedStrings() {
+		Airac airac = Airac.fromIdentifier("1605");
+		assertSame(airac.toString(), airac.toString());
+		assertSame(airac.toLongString(), airac.toLongString());
+		assertSame(airac.toString(), Airac.fromIdentifier("1604").getNext().toString());
+
+		Airac uncached = Airac.fromSerial(-1);
+		assertEquals(uncached.toString(), uncached.toString());
+	}
+}
@@ -62,6 +62,12 @@ public class AiracFromIdentifierTest {
 				{"1016", "", 0, 0, false},
 				{"10-1", "", 0, 0, false},
 				{"-101", "", 0, 0, false},
+				{"+605", "", 0, 0, false},
+				{"16050", "", 0, 0, false},
+				// formerly accepted, because the regular expression matched '$' before a final line terminator
+				{"1605\n", "", 0, 0, false},
+				{"1600", "", 0, 0, false},
+				{"\u0661\u0666\u0660\u0665", "", 0, 0, false},
 				{"", "", 0, 0, false},
 				{"nope", "", 0, 0, false}
 		});
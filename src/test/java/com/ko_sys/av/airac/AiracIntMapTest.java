@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class AiracIntMapTest {
+	private static Airac id(String yyoo) {
+		return Airac.fromIdentifier(yyoo);
+	}
+
+	@Test
+	public void testPutGetRemove() {
+		AiracIntMap<String> map = new AiracIntMap<>();
+		assertNull(map.get(id("1605")));
+
+		assertNull(map.put(id("1605"), "a"));
+		assertEquals("a", map.put(id("1605"), "b"));
+		assertNull(map.put(id("6401"), "c"));
+		assertNull(map.put(id("6313"), "d"));
+		assertNull(map.put(Airac.fromSerial(-5), "e"));
+
+		assertEquals(4, map.size());
+		assertEquals("b", map.get(id("1605")));
+		assertEquals("c", map.get(id("6401")));
+		assertEquals("d", map.get(id("6313")));
+		assertEquals("e", map.getBySerial(-5));
+		assertTrue(map.containsKey(id("6401")));
+		assertFalse(map.containsKey(id("6402")));
+
+		assertEquals("c", map.remove(id("6401")));
+		assertNull(map.remove(id("6401")));
+		assertNull(map.remove(Airac.fromSerial(Integer.MIN_VALUE)));
+		assertEquals(3, map.size());
+
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertNull(map.get(id("1605")));
+	}
+
+	@Test
+	public void testCompute() {
+		AiracIntMap<Integer> map = new AiracIntMap<>();
+		for (int i = 0; i < 3; i++) {
+			map.compute(id("1605"), (airac, count) -> count == null ? 1 : count + 1);
+		}
+		assertEquals(Integer.valueOf(3), map.get(id("1605")));
+
+		assertNull(map.compute(id("1605"), (airac, count) -> null));
+		assertTrue(map.isEmpty());
+
+		assertEquals(Integer.valueOf(id("1605").getSerial()), map.computeIfAbsent(id("1605"), Airac::getSerial));
+		assertEquals(Integer.valueOf(id("1605").getSerial()), map.computeIfAbsent(id("1605"), airac -> 0));
+		assertNull(map.computeIfAbsent(id("1606"), airac -> null));
+		assertEquals(1, map.size());
+	}
+
+	@Test
+	public void testOrderedIteration() {
+		AiracIntMap<String> map = new AiracIntMap<>();
+		map.put(id("2001"), "c");
+		map.put(id("1001"), "a");
+		map.put(id("1501"), "b");
+		map.put(id("3001"), "d");
+
+		List<String> values = new ArrayList<>();
+		List<Airac> keys = new ArrayList<>();
+		for (Map.Entry<Airac, String> entry : map) {
+			keys.add(entry.getKey());
+			values.add(entry.getValue());
+		}
+		assertEquals("[1001, 1501, 2001, 3001]", keys.toString());
+		assertEquals("[a, b, c, d]", values.toString());
+		assertEquals("{1001=a, 1501=b, 2001=c, 3001=d}", map.toString());
+		assertEquals(id("1001"), map.firstEntry().getKey());
+		assertEquals(id("3001"), map.lastEntry().getKey());
+	}
+
+	@Test
+	public void testFloorCeiling() {
+		AiracIntMap<String> map = new AiracIntMap<>();
+		assertNull(map.floorEntry(Instant.parse("2016-05-04T00:00:00Z")));
+		map.put(id("1601"), "a");
+		map.put(id("1605"), "b");
+
+		assertEquals("b", map.floorEntry(Instant.parse("2016-05-04T00:00:00Z")).getValue());
+		assertEquals("a", map.floorEntry(Instant.parse("2016-04-27T23:59:59Z")).getValue());
+		assertEquals("b", map.floorEntry(Instant.parse("2030-01-01T00:00:00Z")).getValue());
+		assertNull(map.floorEntry(Instant.parse("2015-12-31T00:00:00Z")));
+
+		assertEquals("b", map.ceilingEntry(Instant.parse("2016-04-27T23:59:59Z")).getValue());
+		assertEquals("a", map.ceilingEntry(Instant.parse("1990-01-01T00:00:00Z")).getValue());
+		assertEquals(id("1605"), map.ceilingEntry(Instant.parse("2016-05-04T00:00:00Z")).getKey());
+		assertNull(map.ceilingEntry(Instant.parse("2016-06-01T00:00:00Z")));
+	}
+
+	@Test
+	public void testExtremes() {
+		AiracIntMap<String> map = new AiracIntMap<>();
+		map.put(Airac.fromSerial(Integer.MAX_VALUE), "max");
+		map.put(Airac.fromSerial(Integer.MAX_VALUE - 100), "less");
+		assertEquals("max", map.getBySerial(Integer.MAX_VALUE));
+		assertEquals("less", map.getBySerial(Integer.MAX_VALUE - 100));
+		assertEquals(2, map.size());
+
+		AiracIntMap<String> min = new AiracIntMap<>();
+		min.put(Airac.fromSerial(Integer.MIN_VALUE + 100), "more");
+		min.put(Airac.fromSerial(Integer.MIN_VALUE), "min");
+		assertEquals("min", min.getBySerial(Integer.MIN_VALUE));
+		assertEquals("more", min.getBySerial(Integer.MIN_VALUE + 100));
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class AiracKeysTest {
+	private static int compareUnsigned(byte[] left, byte[] right) {
+		for (int i = 0; i < Math.min(left.length, right.length); i++) {
+			int c = Integer.compare(left[i] & 0xff, right[i] & 0xff);
+			if (c != 0) {
+				return c;
+			}
+		}
+		return Integer.compare(left.length, right.length);
+	}
+
+	@Test
+	public void testOrder() {
+		List<Airac> cycles = new ArrayList<>();
+		for (int serial : new int[]{Integer.MIN_VALUE, -256, -1, 0, 1, 255, 256, 65536, Integer.MAX_VALUE}) {
+			cycles.add(Airac.fromSerial(serial));
+		}
+		cycles.add(Airac.fromIdentifier("9913"));
+		cycles.add(Airac.fromIdentifier("0001"));
+		cycles.add(Airac.fromIdentifier("6401"));
+		cycles.add(Airac.fromIdentifier("6313"));
+
+		List<byte[]> keys = new ArrayList<>();
+		for (Airac airac : cycles) {
+			keys.add(AiracKeys.toKey(airac));
+		}
+		keys.sort(AiracKeysTest::compareUnsigned);
+		Collections.sort(cycles);
+
+		for (int i = 0; i < cycles.size(); i++) {
+			assertEquals(cycles.get(i), AiracKeys.get(keys.get(i), 0));
+		}
+		assertTrue(compareUnsigned(AiracKeys.toKey(Airac.fromIdentifier("9913")),
+				AiracKeys.toKey(Airac.fromIdentifier("0001"))) < 0);
+	}
+
+	@Test
+	public void testByteArray() {
+		Airac airac = Airac.fromIdentifier("1605");
+		byte[] bytes = new byte[9];
+		assertEquals(5, AiracKeys.put(bytes, 1, airac));
+		assertSame(airac, AiracKeys.get(bytes, 1));
+		assertEquals(airac.getSerial(), AiracKeys.serialAt(bytes, 1));
+		assertEquals(airac.getSerial() ^ Integer.MIN_VALUE, ByteBuffer.wrap(bytes, 1, 4).getInt());
+	}
+
+	@Test
+	public void testBuffers() {
+		Airac[] cycles = {Airac.fromIdentifier("1605"), Airac.fromSerial(-7), Airac.fromIdentifier("2001")};
+		for (ByteBuffer buffer : new ByteBuffer[]{
+				ByteBuffer.allocate(16), ByteBuffer.allocateDirect(16).order(ByteOrder.LITTLE_ENDIAN)}) {
+			for (Airac airac : cycles) {
+				AiracKeys.put(buffer, airac);
+			}
+			assertEquals(12, buffer.position());
+			AiracKeys.put(buffer, 12, cycles[0]);
+			assertEquals(12, buffer.position());
+
+			for (int i = 0; i < cycles.length; i++) {
+				assertEquals(cycles[i], AiracKeys.get(buffer, i * 4));
+				assertEquals(cycles[i].getSerial(), AiracKeys.serialAt(buffer, i * 4));
+			}
+			assertEquals(cycles[0], AiracKeys.get(buffer, 12));
+
+			buffer.flip();
+			for (Airac airac : cycles) {
+				assertEquals(airac, AiracKeys.get(buffer));
+			}
+			assertFalse(buffer.hasRemaining());
+
+			byte[] key = new byte[4];
+			ByteBuffer copy = buffer.duplicate();
+			copy.position(4);
+			copy.get(key);
+			assertArrayEquals(AiracKeys.toKey(cycles[1]), key);
+		}
+	}
+
+	@Test
+	public void testBounds() {
+		Airac first = Airac.fromIdentifier("9912");
+		Airac last = Airac.fromIdentifier("0002");
+
+		byte[] lower = AiracKeys.lowerBound(first);
+		byte[] upper = AiracKeys.upperBound(last);
+		assertArrayEquals(AiracKeys.toKey(first), lower);
+		assertArrayEquals(AiracKeys.toKey(Airac.fromIdentifier("0003")), upper);
+
+		for (Airac airac = first.getPrevious(); airac.compareTo(Airac.fromIdentifier("0004")) <= 0; airac = airac.getNext()) {
+			byte[] composite = Arrays.copyOf(AiracKeys.toKey(airac), 12);
+			Arrays.fill(composite, 4, 12, (byte) 0xff);
+			boolean within = compareUnsigned(composite, lower) >= 0 && compareUnsigned(composite, upper) < 0;
+			assertEquals(airac.toString(), airac.compareTo(first) >= 0 && airac.compareTo(last) <= 0, within);
+		}
+
+		assertNull(AiracKeys.upperBound(Airac.fromSerial(Integer.MAX_VALUE)));
+		assertArrayEquals(new byte[4], AiracKeys.lowerBound(Airac.fromSerial(Integer.MIN_VALUE)));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testOutOfBounds() {
+		AiracKeys.serialAt(ByteBuffer.allocate(7), 4);
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+public class AiracParseTest {
+	private static void assertParses(String identifier) {
+		final Airac want = Airac.fromIdentifier(identifier);
+		final String line = "ab" + identifier + "cd";
+		final byte[] bytes = line.getBytes(StandardCharsets.US_ASCII);
+
+		assertEquals(want.getSerial(), Airac.parseSerial(line, 2));
+		assertEquals(want.getSerial(), Airac.parseSerial(new StringBuilder(line), 2));
+		assertEquals(want.getSerial(), Airac.parseSerial(CharBuffer.wrap(line), 2));
+		assertEquals(want.getSerial(), Airac.parseSerial(bytes, 2));
+		assertSame(want, Airac.fromIdentifier(line, 2));
+		assertTrue(Airac.isValidIdentifier(identifier));
+		assertTrue(Airac.isValidIdentifier(line, 2));
+		assertTrue(Airac.isValidIdentifier(bytes, 2));
+		assertSame(want, Airac.fromIdentifier(bytes, 2));
+
+		for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.wrap(bytes), ByteBuffer.allocateDirect(bytes.length)}) {
+			for (int i = 0; i < bytes.length; i++) {
+				buffer.put(i, bytes[i]);
+			}
+			assertEquals(want.getSerial(), Airac.parseSerial(buffer, 2));
+			assertSame(want, Airac.fromIdentifier(buffer, 2));
+			assertTrue(Airac.isValidIdentifier(buffer, 2));
+			assertEquals(0, buffer.position());
+		}
+	}
+
+	private static void assertInvalid(String identifier) {
+		final byte[] bytes = identifier.getBytes(StandardCharsets.UTF_8);
+
+		assertEquals(Airac.invalidSerial, Airac.parseSerial(identifier, 0));
+		assertEquals(Airac.invalidSerial, Airac.parseSerial(bytes, 0));
+		assertEquals(Airac.invalidSerial, Airac.parseSerial(ByteBuffer.wrap(bytes), 0));
+		assertFalse(Airac.isValidIdentifier(identifier));
+		assertFalse(Airac.isValidIdentifier(identifier, 0));
+		assertFalse(Airac.isValidIdentifier(bytes, 0));
+		assertFalse(Airac.isValidIdentifier(ByteBuffer.wrap(bytes), 0));
+		try {
+			Airac.fromIdentifier(identifier, 0);
+			fail("expected IllegalArgumentException for " + identifier);
+		} catch (IllegalArgumentException expected) {
+			assertTrue(expected.getMessage(), expected.getMessage().contains(identifier)
+					|| expected.getMessage().contains("does not have"));
+		}
+		try {
+			Airac.fromIdentifier(bytes, 0);
+			fail("expected IllegalArgumentException for " + identifier);
+		} catch (IllegalArgumentException expected) {
+			// ok
+		}
+	}
+
+	@Test
+	public void testParse() {
+		for (String identifier : new String[]{"6401", "6413", "1605", "1713", "2001", "2014", "6313"}) {
+			assertParses(identifier);
+		}
+	}
+
+	@Test
+	public void testParseAllIdentifiers() {
+		for (Airac airac = Airac.fromIdentifier("6401"); ; airac = airac.getNext()) {
+			final String identifier = airac.toString();
+			assertEquals(airac.getSerial(), Airac.parseSerial(identifier, 0));
+			assertEquals(airac.getSerial(), Airac.parseSerial(identifier.getBytes(StandardCharsets.US_ASCII), 0));
+			if (identifier.equals("6313")) {
+				break;
+			}
+		}
+	}
+
+	@Test
+	public void testInvalid() {
+		for (String identifier : new String[]{"1600", "1614", "6314", "16a5", "+605", "-605", "16 5"}) {
+			assertInvalid(identifier);
+		}
+	}
+
+	@Test
+	public void testIsValidIdentifierOfWrongLength() {
+		assertFalse(Airac.isValidIdentifier(null));
+		assertFalse(Airac.isValidIdentifier(""));
+		assertFalse(Airac.isValidIdentifier("160"));
+		assertFalse(Airac.isValidIdentifier("16050"));
+		assertTrue(Airac.isValidIdentifier(new StringBuilder("1605")));
+	}
+
+	@Test
+	public void testNonAsciiDigitsAreInvalid() {
+		assertEquals(Airac.invalidSerial, Airac.parseSerial("\u0661\u0666\u0660\u0665", 0));
+	}
+
+	@Test
+	public void testHighBitBytesAreInvalid() {
+		final byte[] bytes = {(byte) 0xb1, '6', '0', '5'};
+		assertEquals(Airac.invalidSerial, Airac.parseSerial(bytes, 0));
+		assertEquals(Airac.invalidSerial, Airac.parseSerial(ByteBuffer.wrap(bytes), 0));
+	}
+
+	@Test
+	public void testBounds() {
+		final byte[] bytes = "1605".getBytes(StandardCharsets.US_ASCII);
+		for (int index : new int[]{-1, 1, 4}) {
+			try {
+				Airac.parseSerial("1605", index);
+				fail("expected IndexOutOfBoundsException at " + index);
+			} catch (IndexOutOfBoundsException expected) {
+				// ok
+			}
+			try {
+				Airac.parseSerial(bytes, index);
+				fail("expected IndexOutOfBoundsException at " + index);
+			} catch (IndexOutOfBoundsException expected) {
+				// ok
+			}
+			try {
+				Airac.parseSerial(ByteBuffer.wrap(bytes), index);
+				fail("expected IndexOutOfBoundsException at " + index);
+			} catch (IndexOutOfBoundsException expected) {
+				// ok
+			}
+		}
+
+		final ByteBuffer limited = ByteBuffer.wrap("16051606".getBytes(StandardCharsets.US_ASCII));
+		limited.limit(6);
+		try {
+			Airac.parseSerial(limited, 4);
+			fail("expected IndexOutOfBoundsException beyond the limit");
+		} catch (IndexOutOfBoundsException expected) {
+			// ok
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class AiracRangeTest {
+	private final Airac from = Airac.fromIdentifier("1901");
+	private final Airac to = Airac.fromIdentifier("2101");
+
+	@Test
+	public void testRange() {
+		List<Airac> got = Airac.range(from, to).collect(Collectors.toList());
+
+		assertEquals(27, got.size());
+		assertEquals(from, got.get(0));
+		assertEquals("2001", got.get(13).toString());
+		assertEquals("2014", got.get(26).toString());
+		assertEquals(to.getPrevious(), got.get(26));
+		for (int i = 1; i < got.size(); i++) {
+			assertEquals(got.get(i - 1).getNext(), got.get(i));
+		}
+	}
+
+	@Test
+	public void testRangeClosed() {
+		assertEquals(28, Airac.rangeClosed(from, to).count());
+		assertEquals(to, Airac.rangeClosed(from, to).reduce((a, b) -> b).orElse(null));
+		assertEquals(1, Airac.rangeClosed(from, from).count());
+		assertEquals(0, Airac.rangeClosed(to, from).count());
+		assertEquals(0, Airac.range(from, from).count());
+	}
+
+	@Test
+	public void testSerialRange() {
+		assertArrayEquals(Airac.range(from, to).mapToInt(Airac::getSerial).toArray(),
+				Airac.serialRange(from, to).toArray());
+		assertArrayEquals(Airac.rangeClosed(from, to).mapToInt(Airac::getSerial).toArray(),
+				Airac.serialRangeClosed(from, to).toArray());
+	}
+
+	@Test
+	public void testParallel() {
+		Airac first = Airac.fromSerial(-100000);
+		Airac last = Airac.fromSerial(100000);
+
+		List<Airac> sequential = Airac.rangeClosed(first, last).collect(Collectors.toList());
+		List<Airac> parallel = Airac.rangeClosed(first, last).parallel().collect(Collectors.toList());
+
+		assertEquals(200001, parallel.size());
+		assertEquals(sequential, parallel);
+		assertEquals(Airac.rangeClosed(first, last).mapToLong(Airac::getSerial).sum(),
+				Airac.rangeClosed(first, last).parallel().mapToLong(Airac::getSerial).sum());
+	}
+
+	@Test
+	public void testSpliterator() {
+		Spliterator<Airac> spliterator = Airac.range(from, to).spliterator();
+		assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED
+				| Spliterator.IMMUTABLE | Spliterator.DISTINCT | Spliterator.SORTED));
+		assertEquals(27, spliterator.getExactSizeIfKnown());
+
+		Spliterator<Airac> prefix = spliterator.trySplit();
+		assertNotNull(prefix);
+		assertEquals(13, prefix.estimateSize());
+		assertEquals(14, spliterator.estimateSize());
+		assertTrue(prefix.tryAdvance(airac -> assertEquals(from, airac)));
+		assertTrue(spliterator.tryAdvance(airac -> assertEquals(from.getSerial() + 13, airac.getSerial())));
+	}
+
+	@Test
+	public void testExtremes() {
+		Airac max = Airac.fromSerial(Integer.MAX_VALUE);
+		assertEquals(max, Airac.rangeClosed(max.getPrevious(), max).skip(1).findFirst().orElse(null));
+		assertEquals(2, Airac.rangeClosed(max.getPrevious(), max).count());
+	}
+}
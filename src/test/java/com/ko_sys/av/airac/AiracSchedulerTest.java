@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class AiracSchedulerTest {
+	private final Airac airac = Airac.fromIdentifier("1605");
+
+	@Test
+	public void testLeadTimes() {
+		MutableClock clock = new MutableClock(airac.getEffective().plusSeconds(1));
+		List<String> runs = new ArrayList<>();
+		try (AiracScheduler scheduler = new AiracScheduler(clock, Runnable::run)) {
+			scheduler.schedule(Duration.ZERO, next -> runs.add("effective " + next));
+			scheduler.schedule(Duration.ofDays(28), next -> runs.add("28 days before " + next));
+			scheduler.schedule(Duration.ofDays(42), next -> runs.add("42 days before " + next));
+
+			assertEquals(0, scheduler.runDue());
+
+			clock.set(airac.getNext().getEffective().minus(Duration.ofDays(14)));
+			assertEquals(1, scheduler.runDue());
+			assertEquals(0, scheduler.runDue());
+			assertEquals("[42 days before 1607]", runs.toString());
+			runs.clear();
+
+			clock.set(airac.getNext().getEffective());
+			assertEquals(2, scheduler.runDue());
+			assertEquals("[effective 1606, 28 days before 1607]", runs.toString());
+		}
+	}
+
+	@Test
+	public void testClockJumps() {
+		MutableClock clock = new MutableClock(airac.getEffective().plusSeconds(1));
+		List<Airac> runs = new ArrayList<>();
+		try (AiracScheduler scheduler = new AiracScheduler(clock, Runnable::run)) {
+			scheduler.schedule(Duration.ZERO, runs::add);
+
+			// missed cycles coalesce into the latest one
+			clock.set(Airac.fromIdentifier("1612").getEffective().plusSeconds(1));
+			assertEquals(1, scheduler.runDue());
+			assertEquals(Airac.fromIdentifier("1612"), runs.get(0));
+
+			// never run twice for the same cycle
+			clock.set(Airac.fromIdentifier("1610").getEffective().plusSeconds(1));
+			assertEquals(0, scheduler.runDue());
+			clock.set(Airac.fromIdentifier("1612").getEffective().plusSeconds(1));
+			assertEquals(0, scheduler.runDue());
+			clock.set(Airac.fromIdentifier("1613").getEffective());
+			assertEquals(1, scheduler.runDue());
+			assertEquals(Airac.fromIdentifier("1613"), runs.get(1));
+		}
+	}
+
+	@Test
+	public void testCancel() {
+		MutableClock clock = new MutableClock(airac.getEffective());
+		try (AiracScheduler scheduler = new AiracScheduler(clock, Runnable::run)) {
+			AiracScheduler.Registration registration = scheduler.schedule(Duration.ZERO, next -> fail());
+			registration.cancel();
+			clock.set(airac.getNext().getEffective());
+			assertEquals(0, scheduler.runDue());
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testClosed() {
+		AiracScheduler scheduler = new AiracScheduler(Clock.systemUTC(), Runnable::run);
+		scheduler.close();
+		scheduler.schedule(Duration.ZERO, next -> fail());
+	}
+
+	@Test
+	public void testFailingAction() {
+		MutableClock clock = new MutableClock(airac.getEffective());
+		List<Throwable> reported = new ArrayList<>();
+		List<Airac> runs = new ArrayList<>();
+		Thread thread = Thread.currentThread();
+		Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler();
+		thread.setUncaughtExceptionHandler((t, e) -> reported.add(e));
+		try (AiracScheduler scheduler = new AiracScheduler(clock, Runnable::run)) {
+			scheduler.schedule(Duration.ZERO, next -> {
+				throw new IllegalStateException("failing action");
+			});
+			scheduler.schedule(Duration.ZERO, runs::add);
+
+			clock.set(airac.getNext().getEffective());
+			assertEquals(2, scheduler.runDue());
+			assertEquals(1, reported.size());
+			assertEquals("failing action", reported.get(0).getMessage());
+			assertEquals(airac.getNext(), runs.get(0));
+		} finally {
+			thread.setUncaughtExceptionHandler(handler);
+		}
+	}
+
+	@Test
+	public void testRejectingExecutor() {
+		MutableClock clock = new MutableClock(airac.getEffective());
+		List<Throwable> reported = new ArrayList<>();
+		Thread thread = Thread.currentThread();
+		Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler();
+		thread.setUncaughtExceptionHandler((t, e) -> reported.add(e));
+		try (AiracScheduler scheduler = new AiracScheduler(clock, runnable -> {
+			throw new RejectedExecutionException();
+		})) {
+			scheduler.schedule(Duration.ZERO, next -> fail());
+
+			clock.set(airac.getNext().getEffective());
+			assertEquals(1, scheduler.runDue());
+			assertTrue(reported.get(0) instanceof RejectedExecutionException);
+
+			// the action is still registered for the next cycle
+			clock.set(airac.getNext().getNext().getEffective());
+			assertEquals(1, scheduler.runDue());
+		} finally {
+			thread.setUncaughtExceptionHandler(handler);
+		}
+	}
+
+	@Test
+	public void testTimer() throws InterruptedException {
+		MutableClock clock = new MutableClock(airac.getEffective());
+		BlockingQueue<Airac> runs = new LinkedBlockingQueue<>();
+		BlockingQueue<Throwable> reported = new LinkedBlockingQueue<>();
+		// the timer thread has no handler of its own, hence reports to the default handler
+		Thread.UncaughtExceptionHandler handler = Thread.getDefaultUncaughtExceptionHandler();
+		Thread.setDefaultUncaughtExceptionHandler((t, e) -> reported.add(e));
+		try (AiracScheduler scheduler = new AiracScheduler(clock, Runnable::run)) {
+			scheduler.schedule(Duration.ZERO, next -> {
+				throw new IllegalStateException("failing action");
+			});
+			scheduler.schedule(Duration.ZERO, runs::add);
+
+			// due as soon as the timer starts
+			clock.set(airac.getNext().getEffective());
+			scheduler.start();
+			assertEquals(airac.getNext(), runs.poll(10, TimeUnit.SECONDS));
+			assertEquals("failing action", reported.poll(10, TimeUnit.SECONDS).getMessage());
+
+			// the timer survived the failing action; registering wakes it up to re-read the clock
+			clock.set(airac.getNext().getNext().getEffective());
+			scheduler.schedule(Duration.ZERO, next -> {
+			});
+			assertEquals(airac.getNext().getNext(), runs.poll(10, TimeUnit.SECONDS));
+			assertEquals("failing action", reported.poll(10, TimeUnit.SECONDS).getMessage());
+		} finally {
+			Thread.setDefaultUncaughtExceptionHandler(handler);
+		}
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class AiracSerialsTest {
+	private static final long epochSecond = Airac.epoch.getEpochSecond();
+	private static final long cycleSeconds = 28 * 86400L;
+
+	private static long floorSerial(long epochSecond) {
+		BigInteger[] qr = BigInteger.valueOf(epochSecond).subtract(BigInteger.valueOf(AiracSerialsTest.epochSecond))
+				.divideAndRemainder(BigInteger.valueOf(cycleSeconds));
+		BigInteger q = qr[1].signum() < 0 ? qr[0].subtract(BigInteger.ONE) : qr[0];
+		return q.longValueExact();
+	}
+
+	@Test
+	public void testOfEpochSecondFullRange() {
+		Random random = new Random(19010110L);
+		long[] special = {Long.MIN_VALUE, Long.MIN_VALUE + 1, Long.MAX_VALUE, Long.MAX_VALUE - 1, 0, -1, 1,
+				epochSecond, epochSecond - 1, epochSecond + 1, epochSecond - cycleSeconds,
+				Instant.MIN.getEpochSecond(), Instant.MAX.getEpochSecond()};
+		for (long seconds : special) {
+			assertEquals(String.valueOf(seconds), floorSerial(seconds), AiracSerials.ofEpochSecond(seconds));
+		}
+		for (int i = 0; i < 100_000; i++) {
+			long seconds = random.nextLong() >> random.nextInt(64);
+			assertEquals(String.valueOf(seconds), floorSerial(seconds), AiracSerials.ofEpochSecond(seconds));
+		}
+	}
+
+	@Test
+	public void testOfEpochDayAndMilli() {
+		Random random = new Random(19010110L);
+		for (int i = 0; i < 100_000; i++) {
+			long day = random.nextLong() >> (18 + random.nextInt(46));
+			assertEquals(floorSerial(day * 86400), AiracSerials.ofEpochDay(day));
+			assertEquals(floorSerial(day * 86400), AiracSerials.ofEpochSecond(day * 86400 + 86399));
+
+			long milli = random.nextLong();
+			assertEquals(floorSerial(Math.floorDiv(milli, 1000)), AiracSerials.ofEpochMilli(milli));
+		}
+		assertEquals(floorSerial(Long.MIN_VALUE / 86400 * 86400), AiracSerials.ofEpochDay(Long.MIN_VALUE / 86400));
+	}
+
+	@Test
+	public void testBeforeEpoch() {
+		Airac first = Airac.fromSerial(0);
+		assertEquals(-1, AiracSerials.ofEpochSecond(epochSecond - 1));
+		assertEquals(Airac.fromSerial(-1), Airac.fromEpochSecond(epochSecond - 1));
+		assertEquals(Airac.fromSerial(-1), Airac.fromEpochMilli(first.getEffectiveEpochMilli() - 1));
+		assertEquals(Airac.fromSerial(-1), Airac.fromEpochDay(first.getEffectiveEpochDay() - 1));
+		assertEquals(Airac.fromSerial(-1), Airac.fromInstant(first.getEffective().minusSeconds(1)));
+
+		// every cycle of the 19th century contains its effective date and ends before its successor
+		for (Airac airac = Airac.fromInstant(Instant.parse("1800-01-01T00:00:00Z"));
+			 airac.compareTo(first) < 0; airac = airac.getNext()) {
+			Instant effective = airac.getEffective();
+			assertEquals(airac, Airac.fromInstant(effective));
+			assertEquals(airac, Airac.fromInstant(effective.plusSeconds(cycleSeconds - 1)));
+			assertEquals(airac.getNext(), Airac.fromInstant(effective.plusSeconds(cycleSeconds)));
+			assertEquals(LocalDate.ofEpochDay(airac.getEffectiveEpochDay()).getYear(), airac.getYear());
+		}
+	}
+
+	@Test
+	public void testYearAndOrdinal() {
+		for (long serial : new long[]{-10_000_000_000L, -1_000_000, -1, 0, 1, 1_000_000, 13_000_000_000L}) {
+			long day = AiracSerials.effectiveEpochDay(serial);
+			LocalDate date = LocalDate.ofEpochDay(day);
+			assertEquals(date.getYear(), AiracSerials.year(serial));
+			int ordinal = (int) ((day - LocalDate.of(date.getYear(), 1, 1).toEpochDay()) / 28) + 1;
+			assertEquals(ordinal, AiracSerials.ordinal(serial));
+			assertEquals(day * 86400, AiracSerials.effectiveEpochSecond(serial));
+		}
+		for (int serial = -2000; serial < 5000; serial += 7) {
+			Airac airac = Airac.fromSerial(serial);
+			assertEquals(airac.getYear(), AiracSerials.year(serial));
+			assertEquals(airac.getOrdinal(), AiracSerials.ordinal(serial));
+			assertEquals(airac.getEffectiveEpochSecond(), AiracSerials.effectiveEpochSecond(serial));
+		}
+	}
+
+	@Test
+	public void testInstantRange() {
+		long min = AiracSerials.ofInstant(Instant.MIN);
+		long max = AiracSerials.ofInstant(Instant.MAX);
+		assertTrue(min < Integer.MIN_VALUE);
+		assertTrue(max > Integer.MAX_VALUE);
+		// Instant.MIN is January 1st of the year -1,000,000,000, so its cycle became effective in the year before
+		assertEquals(-1_000_000_001, AiracSerials.year(min));
+		assertEquals(1_000_000_000, AiracSerials.year(max));
+	}
+
+	@Test
+	public void testYearOfEpochDayBeyondDates() {
+		// years whose decimal dates year * 10000 would overflow a long
+		for (long year : new long[]{-10_000_000_000_000_000L, -1_000_000_000_000_000L, 1_000_000_000_000_000L,
+				10_000_000_000_000_000L}) {
+			long day = Airac.firstDayOfYear(year);
+			assertEquals(year, Airac.yearOfEpochDay(day));
+			assertEquals(year - 1, Airac.yearOfEpochDay(day - 1));
+		}
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testIntOverflow() {
+		Airac.fromInstant(Instant.MAX);
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.chrono.HijrahDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.temporal.ValueRange;
+
+import static org.junit.Assert.*;
+
+public class AiracTemporalTest {
+	private static LocalDate effective(Airac airac) {
+		return airac.getEffective().atOffset(ZoneOffset.UTC).toLocalDate();
+	}
+
+	@Test
+	public void testAdjusters() {
+		for (LocalDate date = LocalDate.of(1850, 1, 1); date.isBefore(LocalDate.of(2250, 1, 1)); date = date.plusDays(3)) {
+			Airac current = Airac.fromInstant(date.atStartOfDay(ZoneOffset.UTC).toInstant());
+			boolean isEffective = effective(current).equals(date);
+
+			assertEquals(effective(current.getNext()), date.with(AiracAdjusters.nextEffective()));
+			assertEquals(isEffective ? date : effective(current.getNext()),
+					date.with(AiracAdjusters.nextOrSameEffective()));
+			assertEquals(isEffective ? effective(current.getPrevious()) : effective(current),
+					date.with(AiracAdjusters.previousEffective()));
+			assertEquals(effective(current), date.with(AiracAdjusters.previousOrSameEffective()));
+			assertEquals(effective(current).plusDays(27), date.with(AiracAdjusters.expiry()));
+		}
+	}
+
+	@Test
+	public void testAdjustersKeepTimeAndZone() {
+		ZonedDateTime noon = ZonedDateTime.of(2016, 5, 1, 12, 30, 0, 0, ZoneId.of("Europe/Berlin"));
+		ZonedDateTime next = noon.with(AiracAdjusters.nextEffective());
+		assertEquals(ZonedDateTime.of(2016, 5, 26, 12, 30, 0, 0, ZoneId.of("Europe/Berlin")), next);
+		assertEquals(next, next.with(AiracAdjusters.nextOrSameEffective()));
+		assertEquals(LocalDateTime.of(2016, 4, 28, 12, 30), noon.toLocalDateTime().with(AiracAdjusters.previousEffective()));
+	}
+
+	@Test
+	public void testAccessor() {
+		Airac airac = Airac.fromIdentifier("1605");
+		assertEquals(LocalDate.of(2016, 4, 28), LocalDate.from(airac));
+		assertEquals(2016, airac.get(ChronoField.YEAR));
+		assertEquals(4, airac.get(ChronoField.MONTH_OF_YEAR));
+		assertEquals(28, airac.get(ChronoField.DAY_OF_MONTH));
+		assertEquals(airac.getSerial(), airac.getLong(AiracFields.serial));
+		assertEquals(5, airac.get(AiracFields.ordinal));
+		assertFalse(airac.isSupported(ChronoField.DAY_OF_WEEK));
+		assertFalse(airac.isSupported(null));
+		assertTrue(airac.isSupported(AiracFields.serial));
+
+		// before the year 0
+		Airac ancient = Airac.fromEpochDay(LocalDate.of(-500, 6, 15).toEpochDay());
+		assertEquals(LocalDate.ofEpochDay(ancient.getEffectiveEpochDay()), LocalDate.from(ancient));
+	}
+
+	@Test(expected = UnsupportedTemporalTypeException.class)
+	public void testUnsupportedField() {
+		Airac.fromIdentifier("1605").getLong(ChronoField.HOUR_OF_DAY);
+	}
+
+	@Test
+	public void testFormat() {
+		DateTimeFormatter identifier = new DateTimeFormatterBuilder()
+				.appendValueReduced(ChronoField.YEAR, 2, 2, 2000)
+				.appendValue(AiracFields.ordinal, 2)
+				.toFormatter();
+		for (String yyoo : new String[]{"0001", "1605", "2014", "6313"}) {
+			Airac airac = Airac.fromIdentifier(yyoo);
+			assertEquals(yyoo, identifier.format(airac));
+			assertEquals(effective(airac).toString(), DateTimeFormatter.ISO_LOCAL_DATE.format(airac));
+		}
+		assertEquals("9913", identifier.format(Airac.fromIdentifier("9913")));
+	}
+
+	@Test
+	public void testFields() {
+		LocalDate date = LocalDate.of(2016, 5, 1);
+		Airac airac = Airac.fromIdentifier("1605");
+		assertEquals(airac.getSerial(), date.getLong(AiracFields.serial));
+		assertEquals(5, date.get(AiracFields.ordinal));
+		assertEquals(ValueRange.of(1, 13), date.range(AiracFields.ordinal));
+		assertEquals(ValueRange.of(1, 14), LocalDate.of(2020, 12, 31).range(AiracFields.ordinal));
+
+		assertEquals(LocalDate.of(2016, 5, 29), date.with(AiracFields.serial, airac.getSerial() + 1));
+		assertEquals(LocalDate.of(2016, 1, 10), date.with(AiracFields.ordinal, 1));
+		assertEquals(LocalDate.of(2020, 12, 31), LocalDate.of(2020, 1, 2).with(AiracFields.ordinal, 14));
+		try {
+			date.with(AiracFields.ordinal, 14);
+			fail("expected DateTimeException");
+		} catch (DateTimeException expected) {
+			// ok
+		}
+
+		assertEquals(LocalDate.of(2016, 8, 21), date.plus(4, AiracFields.cycles));
+		assertEquals(4, AiracFields.cycles.between(date, LocalDate.of(2016, 8, 21)));
+		assertEquals(3, date.until(LocalDate.of(2016, 8, 20), AiracFields.cycles));
+		assertEquals(-3, LocalDate.of(2016, 8, 20).until(date, AiracFields.cycles));
+		assertEquals(ChronoUnit.DAYS.getDuration().multipliedBy(28), AiracFields.cycles.getDuration());
+
+		assertFalse(LocalDateTime.of(2016, 5, 1, 0, 0).toLocalTime().isSupported(AiracFields.serial));
+		assertFalse(HijrahDate.now().isSupported(AiracFields.serial));
+	}
+}
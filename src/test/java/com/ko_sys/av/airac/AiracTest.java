@@ -19,12 +19,18 @@ package com.ko_sys.av.airac;
 
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 
 import static org.junit.Assert.*;
@@ -131,4 +137,125 @@ public class AiracTest {
 			}
 		}
 	}
+
+	@Test
+	public void testYearOrdinalBeyondTable() {
+		Airac epoch = Airac.fromInstant(Airac.epoch);
+		Airac far = Airac.fromInstant(Instant.from(ZonedDateTime.of(2190, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)));
+		for (int i = 0; i < 2000; i++) {
+			epoch = epoch.getPrevious();
+			far = far.getNext();
+			for (Airac airac : Arrays.asList(epoch, far)) {
+				ZonedDateTime effective = airac.getEffective().atZone(ZoneOffset.UTC);
+				assertEquals(airac.toString(), effective.getYear(), airac.getYear());
+				assertEquals(airac.toString(), (effective.getDayOfYear() - 1) / 28 + 1, airac.getOrdinal());
+			}
+		}
+	}
+
+	@Test
+	public void testCanonicalInstances() {
+		Airac left = Airac.fromIdentifier("1605");
+		Airac right = Airac.fromInstant(Instant.from(ZonedDateTime.of(2016, 5, 4, 8, 20, 0, 0, ZoneOffset.UTC)));
+
+		assertSame(left, right);
+		assertSame(left, left.getNext().getPrevious());
+		assertSame(left.getNext(), right.getNext());
+	}
+
+	@Test
+	public void testDeserializeCanonicalInstance() throws IOException, ClassNotFoundException {
+		Airac airac = Airac.fromIdentifier("2014");
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(airac);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			assertSame(airac, in.readObject());
+		}
+	}
+
+	@Test
+	public void testDeserializeLegacyForm() throws IOException, ClassNotFoundException {
+		// "1605" as written by default serialization, before the compact serialized form
+		byte[] legacy = Base64.getDecoder().decode(
+				"rO0ABXNyABljb20ua29fc3lzLmF2LmFpcmFjLkFpcmFjAAAAAAEiEj4CAAFJAAZzZXJpYWx4cAAABeA=");
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(legacy))) {
+			assertSame(Airac.fromIdentifier("1605"), in.readObject());
+		}
+	}
+
+	@Test
+	public void testSerializedForm() throws IOException, ClassNotFoundException {
+		Airac[] cycles = {Airac.fromIdentifier("1605"), Airac.fromSerial(-42), Airac.fromSerial(Integer.MAX_VALUE)};
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(cycles);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			Airac[] got = (Airac[]) in.readObject();
+			assertArrayEquals(cycles, got);
+			assertSame(cycles[0], got[0]);
+		}
+	}
+
+	@Test
+	public void testEpochFactoriesAndAccessors() {
+		Airac last = Airac.fromInstant(Instant.from(ZonedDateTime.of(2200, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)));
+		for (Airac airac = Airac.fromInstant(Airac.epoch).getNext(); airac.compareTo(last) <= 0; airac = airac.getNext()) {
+			Instant effective = airac.getEffective();
+			long effectiveDay = effective.getEpochSecond() / 86400;
+
+			assertEquals(effective.getEpochSecond(), airac.getEffectiveEpochSecond());
+			assertEquals(effective.toEpochMilli(), airac.getEffectiveEpochMilli());
+			assertEquals(effectiveDay, airac.getEffectiveEpochDay());
+			assertEquals(airac.getNext().getEffective().minusSeconds(1).getEpochSecond(), airac.getExpiresEpochSecond());
+
+			assertEquals(airac, Airac.fromEpochSecond(effective.getEpochSecond()));
+			assertEquals(airac, Airac.fromEpochMilli(effective.toEpochMilli()));
+			assertEquals(airac, Airac.fromEpochDay(effectiveDay));
+			assertEquals(airac, Airac.fromEpochSecond(airac.getExpiresEpochSecond()));
+			assertEquals(airac, Airac.fromEpochDay(effectiveDay + 27));
+			assertEquals(airac.getPrevious(), Airac.fromEpochSecond(effective.getEpochSecond() - 1));
+			assertEquals(airac.getPrevious(), Airac.fromEpochMilli(effective.toEpochMilli() - 1));
+			assertEquals(airac.getPrevious(), Airac.fromEpochDay(effectiveDay - 1));
+		}
+	}
+
+	@Test
+	public void testIdentifierCodes() {
+		int valid = 0;
+		for (int yyoo = 0; yyoo <= 9999; yyoo++) {
+			final String identifier = String.format("%04d", yyoo);
+			Airac want;
+			try {
+				want = Airac.fromIdentifier(identifier);
+			} catch (IllegalArgumentException e) {
+				try {
+					Airac.fromIdentifierCode(yyoo);
+					fail("expected IllegalArgumentException for " + yyoo);
+				} catch (IllegalArgumentException expected) {
+					assertEquals(e.getMessage(), expected.getMessage());
+				}
+				continue;
+			}
+			valid++;
+			assertSame(want, Airac.fromIdentifierCode(yyoo));
+			assertEquals(yyoo, want.toIdentifierCode());
+		}
+		assertEquals(Airac.fromIdentifier("6313").getSerial() - Airac.fromIdentifier("6401").getSerial() + 1, valid);
+
+		for (int yyoo : new int[]{-1, 10000, Integer.MIN_VALUE, Integer.MAX_VALUE}) {
+			try {
+				Airac.fromIdentifierCode(yyoo);
+				fail("expected IllegalArgumentException for " + yyoo);
+			} catch (IllegalArgumentException expected) {
+				assertEquals("illegal AIRAC identifier: " + yyoo, expected.getMessage());
+			}
+		}
+		// like the short representation, the code of a cycle outside of 1964 until 2063 wraps
+		assertEquals(101, Airac.fromSerial(0).toIdentifierCode());
+	}
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class AiracWindowOperatorTest {
+	private static long millis(String identifier, long plusHours) {
+		return Airac.fromIdentifier(identifier).getEffective().plus(plusHours, ChronoUnit.HOURS).toEpochMilli();
+	}
+
+	@Test
+	public void testTumblingWindows() {
+		AiracWindowOperator<String, ?, Long> operator = new AiracWindowOperator<>(Collectors.counting(), 0);
+		List<AiracWindow<Long>> emitted = new ArrayList<>();
+
+		assertTrue(operator.onEvent(millis("1605", 0), "a"));
+		assertTrue(operator.onEvent(millis("1605", 24 * 28 - 1), "b"));
+		assertTrue(operator.onEvent(millis("1606", 1), "c"));
+		assertTrue(operator.onEvent(millis("1608", 1), "d"));
+		assertEquals(3, operator.getOpenWindows());
+
+		operator.advanceWatermark(millis("1606", 0) - 1, emitted::add);
+		assertTrue(emitted.isEmpty());
+
+		operator.advanceWatermark(millis("1606", 0), emitted::add);
+		assertEquals(Arrays.asList(new AiracWindow<>(Airac.fromIdentifier("1605"), 2L)), emitted);
+		assertEquals(millis("1605", 0), emitted.get(0).getStartEpochMilli());
+		assertEquals(millis("1606", 0), emitted.get(0).getEndEpochMilli());
+
+		assertFalse(operator.onEvent(millis("1605", 5), "late"));
+		assertEquals(1, operator.getDroppedEvents());
+
+		operator.advanceWatermark(millis("1609", 0), emitted::add);
+		assertEquals(Arrays.asList(
+				new AiracWindow<>(Airac.fromIdentifier("1605"), 2L),
+				new AiracWindow<>(Airac.fromIdentifier("1606"), 1L),
+				new AiracWindow<>(Airac.fromIdentifier("1608"), 1L)), emitted);
+		assertEquals(0, operator.getOpenWindows());
+	}
+
+	@Test
+	public void testAllowedLateness() {
+		AiracWindowOperator<String, ?, List<String>> operator = new AiracWindowOperator<>(Collectors.toList(), 1);
+		List<AiracWindow<List<String>>> emitted = new ArrayList<>();
+
+		operator.onEvent(millis("1605", 1), "a");
+		operator.advanceWatermark(millis("1606", 12), emitted::add);
+		assertTrue(emitted.isEmpty());
+
+		// late, but within the allowed lateness
+		assertTrue(operator.onEvent(millis("1605", 2), "b"));
+		operator.advanceWatermark(millis("1607", 0), emitted::add);
+		assertEquals(1, emitted.size());
+		assertEquals(Arrays.asList("a", "b"), emitted.get(0).getResult());
+
+		assertFalse(operator.onEvent(millis("1605", 3), "c"));
+		assertTrue(operator.onEvent(millis("1606", 3), "d"));
+		assertEquals(1, operator.getDroppedEvents());
+	}
+
+	@Test
+	public void testWatermarkIsMonotonic() {
+		AiracWindowOperator<String, ?, Long> operator = new AiracWindowOperator<>(Collectors.counting(), 0);
+		List<AiracWindow<Long>> emitted = new ArrayList<>();
+		operator.advanceWatermark(millis("1607", 0), emitted::add);
+		operator.advanceWatermark(millis("1601", 0), emitted::add);
+		assertEquals(millis("1607", 0), operator.getWatermark());
+		assertFalse(operator.onEvent(millis("1606", 0), "a"));
+	}
+
+	@Test
+	public void testFlushAndBeforeEpoch() {
+		AiracWindowOperator<String, ?, Long> operator = new AiracWindowOperator<>(Collectors.counting(), 0);
+		List<AiracWindow<Long>> emitted = new ArrayList<>();
+		long beforeEpoch = Instant.parse("1850-06-01T00:00:00Z").toEpochMilli();
+		operator.onEvent(millis("2001", 0), "a");
+		operator.onEvent(beforeEpoch, "b");
+
+		operator.flush(emitted::add);
+		assertEquals(Arrays.asList(
+				new AiracWindow<>(Airac.fromEpochMilli(beforeEpoch), 1L),
+				new AiracWindow<>(Airac.fromIdentifier("2001"), 1L)), emitted);
+		assertEquals(0, operator.getOpenWindows());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeLateness() {
+		new AiracWindowOperator<>(Collectors.counting(), -1);
+	}
+}
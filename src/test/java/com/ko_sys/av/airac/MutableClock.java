@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A clock that is set by the test. Shared with the tests of the other modules by the test jar.
+ */
+public final class MutableClock extends Clock {
+	private final AtomicReference<Instant> instant;
+	private final ZoneId zone;
+
+	public MutableClock(@NotNull Instant instant) {
+		this(new AtomicReference<>(instant), ZoneOffset.UTC);
+	}
+
+	private MutableClock(@NotNull AtomicReference<Instant> instant, @NotNull ZoneId zone) {
+		this.instant = instant;
+		this.zone = zone;
+	}
+
+	public void set(@NotNull Instant instant) {
+		this.instant.set(instant);
+	}
+
+	@Override
+	public ZoneId getZone() {
+		return zone;
+	}
+
+	/**
+	 * Returns a clock in the given zone that shares the instant of this clock.
+	 */
+	@Override
+	public Clock withZone(ZoneId zone) {
+		return new MutableClock(instant, zone);
+	}
+
+	@Override
+	public Instant instant() {
+		return instant.get();
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ko_sys.av.airac.vector;
+
+import com.ko_sys.av.airac.AiracBulk;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Bulk conversions of points in time to AIRAC cycles that use SIMD instructions where available.
+ * <p>
+ * The conversions are backed by the incubating Vector API, if the module {@code jdk.incubator.vector} has been added
+ * to the runtime ({@code --add-modules jdk.incubator.vector}). Otherwise they fall back to the scalar loops of
+ * {@link AiracBulk}. Either way, the results are the same as those of {@link AiracBulk}.
+ *
+ * @since 1.0.1
+ */
+public final class AiracVectorBulk {
+	/**
+	 * Whether the Vector API is available at runtime.
+	 */
+	private static final boolean vectorized = isVectorApiPresent();
+
+	private AiracVectorBulk() {
+	}
+
+	/**
+	 * Returns whether the conversions of this class are vectorized.
+	 *
+	 * @return {@code true} if the Vector API is available, {@code false} if the scalar fallback is used
+	 */
+	public static boolean isVectorized() {
+		return vectorized;
+	}
+
+	/**
+	 * Converts epoch seconds to serials.
+	 *
+	 * @param src    the epoch seconds, not null
+	 * @param srcPos the start position in {@code src}
+	 * @param dst    the array receiving the serials, not null
+	 * @param dstPos the start position in {@code dst}
+	 * @param length the number of elements to convert
+	 * @throws IndexOutOfBoundsException if a range exceeds the bounds of its array
+	 * @see AiracBulk#serialsOfEpochSeconds(long[], int, int[], int, int)
+	 */
+	public static void serialsOfEpochSeconds(@NotNull long[] src, int srcPos, @NotNull int[] dst, int dstPos, int length) {
+		if (vectorized) {
+			LongVectorKernel.serialsOfEpochSeconds(src, srcPos, dst, dstPos, length);
+		} else {
+			AiracBulk.serialsOfEpochSeconds(src, srcPos, dst, dstPos, length);
+		}
+	}
+
+	private static boolean isVectorApiPresent() {
+		try {
+			Class.forName("jdk.incubator.vector.LongVector");
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ko_sys.av.airac.vector;
+
+import com.ko_sys.av.airac.Airac;
+import com.ko_sys.av.airac.AiracBulk;
+import com.ko_sys.av.airac.AiracSerials;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Vector API kernel of {@link AiracVectorBulk}.
+ * <p>
+ * Divides by the cycle length of 2,419,200 seconds (2^8 * 9450) with a shift and a multiplication by the reciprocal
+ * of 9450 instead of a division, which the hardware cannot vectorize. The reciprocal is exact for quotients of
+ * dividends below 2^36 seconds, that is some 2,000 years around the epoch. Vectors with a lane outside of that range
+ * are converted by the scalar fallback.
+ * <p>
+ * Like the scalar code the division rounds towards negative infinity: the magnitude of a negative dividend is
+ * rounded up, which is the same as rounding the dividend down. Also like {@link AiracBulk} the whole input is range
+ * checked first, so nothing is written if a serial overflows an {@code int}.
+ */
+final class LongVectorKernel {
+	private static final VectorSpecies<Long> longs = LongVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Integer> ints =
+			VectorSpecies.of(int.class, VectorShape.forBitSize(longs.vectorBitSize() / 2));
+
+	/**
+	 * The internal epoch of {@link Airac} as seconds since 1970-01-01T00:00:00Z.
+	 */
+	private static final long epochSecond = Airac.fromSerial(0).getEffectiveEpochSecond();
+	/**
+	 * Length of a cycle in seconds.
+	 */
+	private static final long cycleSeconds = 28 * 86400L;
+	/**
+	 * Exclusive bound of the magnitude of seconds relative to the epoch that {@code magic} divides exactly, less one
+	 * cycle for rounding up the magnitude of negative dividends.
+	 */
+	private static final long limit = (1L << 36) - cycleSeconds;
+	/**
+	 * ceil(2^42 / 9450), exact for dividends below 2^28.
+	 */
+	private static final long magic = 465401748L;
+
+	private LongVectorKernel() {
+	}
+
+	static void serialsOfEpochSeconds(@NotNull long[] src, int srcPos, @NotNull int[] dst, int dstPos, int length) {
+		if (length < 0 || srcPos < 0 || dstPos < 0 || srcPos > src.length - length || dstPos > dst.length - length) {
+			throw new IndexOutOfBoundsException(String.format("src: %d/%d, dst: %d/%d, length: %d",
+					srcPos, src.length, dstPos, dst.length, length));
+		}
+
+		checkSerials(src, srcPos, length);
+
+		final int lanes = longs.length();
+		final int upperBound = longs.loopBound(length);
+		int i = 0;
+		for (; i < upperBound; i += lanes) {
+			final LongVector seconds = LongVector.fromArray(longs, src, srcPos + i);
+			final VectorMask<Long> outOfRange = seconds.compare(VectorOperators.LE, epochSecond - limit)
+					.or(seconds.compare(VectorOperators.GE, epochSecond + limit));
+			if (outOfRange.anyTrue()) {
+				AiracBulk.serialsOfEpochSeconds(src, srcPos + i, dst, dstPos + i, lanes);
+				continue;
+			}
+
+			final LongVector relative = seconds.sub(epochSecond);
+			final VectorMask<Long> negative = relative.compare(VectorOperators.LT, 0);
+			// floor division like the scalar code: divide the magnitude, rounding up for negatives, then restore the sign
+			final LongVector quotient = relative.abs()
+					.add(cycleSeconds - 1, negative)
+					.lanewise(VectorOperators.LSHR, 8)
+					.mul(magic)
+					.lanewise(VectorOperators.LSHR, 42)
+					.lanewise(VectorOperators.NEG, negative);
+			((IntVector) quotient.convertShape(VectorOperators.L2I, ints, 0)).intoArray(dst, dstPos + i);
+		}
+		AiracBulk.serialsOfEpochSeconds(src, srcPos + i, dst, dstPos + i, length - i);
+	}
+
+	/**
+	 * Checks that all serials fit into an {@code int} before anything is written, like {@link AiracBulk} does.
+	 * Serials grow with time, so it suffices to check the serials of the least and the greatest epoch second.
+	 *
+	 * @throws ArithmeticException if a serial overflows an {@code int}
+	 */
+	private static void checkSerials(@NotNull long[] src, int srcPos, int length) {
+		if (length == 0) {
+			return;
+		}
+		final int lanes = longs.length();
+		final int upperBound = longs.loopBound(length);
+		LongVector mins = LongVector.broadcast(longs, Long.MAX_VALUE);
+		LongVector maxs = LongVector.broadcast(longs, Long.MIN_VALUE);
+		int i = 0;
+		for (; i < upperBound; i += lanes) {
+			final LongVector seconds = LongVector.fromArray(longs, src, srcPos + i);
+			mins = mins.min(seconds);
+			maxs = maxs.max(seconds);
+		}
+		long min = mins.reduceLanes(VectorOperators.MIN);
+		long max = maxs.reduceLanes(VectorOperators.MAX);
+		for (; i < length; i++) {
+			min = Math.min(min, src[srcPos + i]);
+			max = Math.max(max, src[srcPos + i]);
+		}
+		Math.toIntExact(AiracSerials.ofEpochSecond(min));
+		Math.toIntExact(AiracSerials.ofEpochSecond(max));
+	}
+}
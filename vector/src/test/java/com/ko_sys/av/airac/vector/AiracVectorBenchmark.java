@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac.vector;
+
+import com.ko_sys.av.airac.AiracBulk;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Instant;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the scalar loop of {@link AiracBulk} with the Vector API kernel.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.mainClass=com.ko_sys.av.airac.vector.AiracVectorBenchmark
+ * -Dexec.classpathScope=test}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class AiracVectorBenchmark {
+	@Param({"1024", "1048576"})
+	public int size;
+
+	private long[] seconds;
+	private int[] serials;
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(AiracVectorBenchmark.class.getSimpleName()).build()).run();
+	}
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(19010110L);
+		long from = Instant.parse("1990-01-01T00:00:00Z").getEpochSecond();
+		long to = Instant.parse("2030-01-01T00:00:00Z").getEpochSecond();
+		seconds = new long[size];
+		for (int i = 0; i < size; i++) {
+			seconds[i] = from + (long) (random.nextDouble() * (to - from));
+		}
+		serials = new int[size];
+	}
+
+	@Benchmark
+	public int[] scalar() {
+		AiracBulk.serialsOfEpochSeconds(seconds, 0, serials, 0, size);
+		return serials;
+	}
+
+	@Benchmark
+	public int[] vector() {
+		LongVectorKernel.serialsOfEpochSeconds(seconds, 0, serials, 0, size);
+		return serials;
+	}
+}
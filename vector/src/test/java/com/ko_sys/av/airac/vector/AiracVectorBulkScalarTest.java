@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac.vector;
+
+import com.ko_sys.av.airac.AiracBulk;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Runs in a separate surefire execution without {@code --add-modules jdk.incubator.vector}.
+ */
+public class AiracVectorBulkScalarTest {
+	@Test
+	public void testScalarFallback() {
+		assertFalse(AiracVectorBulk.isVectorized());
+
+		Random random = new Random(19010110L);
+		int n = 1027;
+		long[] seconds = new long[n];
+		for (int i = 0; i < n; i++) {
+			seconds[i] = random.nextInt() * 16L;
+		}
+		int[] want = new int[n];
+		int[] got = new int[n];
+		AiracBulk.serialsOfEpochSeconds(seconds, 0, want, 0, n);
+		AiracVectorBulk.serialsOfEpochSeconds(seconds, 0, got, 0, n);
+		assertArrayEquals(want, got);
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2017 Johannes Kohnen <wjkohnen@users.noreply.github.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ko_sys.av.airac.vector;
+
+import com.ko_sys.av.airac.AiracBulk;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AiracVectorBulkTest {
+	@Test
+	public void testVectorized() {
+		assertTrue(AiracVectorBulk.isVectorized());
+	}
+
+	@Test
+	public void testSameAsScalar() {
+		Random random = new Random(19010110L);
+		int n = 10003;
+		long[] seconds = new long[n];
+		for (int i = 0; i < n; i++) {
+			switch (i % 4) {
+				case 0:
+					// the serials of any long would overflow an int
+					seconds[i] = random.nextLong() >> 12;
+					break;
+				case 1:
+					seconds[i] = random.nextInt();
+					break;
+				default:
+					seconds[i] = (long) ((random.nextDouble() - 0.5) * (1L << 38));
+			}
+		}
+		// a few runs of values that are all within range of the reciprocal
+		for (int i = 5000; i < 6000; i++) {
+			seconds[i] = random.nextInt() * 16L;
+		}
+
+		int[] want = new int[n];
+		int[] got = new int[n + 1];
+		AiracBulk.serialsOfEpochSeconds(seconds, 0, want, 0, n);
+		LongVectorKernel.serialsOfEpochSeconds(seconds, 0, got, 1, n);
+
+		int[] shifted = new int[n];
+		System.arraycopy(got, 1, shifted, 0, n);
+		assertArrayEquals(want, shifted);
+	}
+
+	@Test
+	public void testBoundaries() {
+		long epochSecond = com.ko_sys.av.airac.Airac.fromSerial(0).getEffectiveEpochSecond();
+		int n = 4096;
+		long[] seconds = new long[n];
+		for (int i = 0; i < n; i++) {
+			long serial = (i / 4) - n / 8;
+			seconds[i] = epochSecond + serial * 2419200L + (i % 4 - 1) * ((i & 1) == 0 ? 1 : 2419199L);
+		}
+		int[] want = new int[n];
+		int[] got = new int[n];
+		AiracBulk.serialsOfEpochSeconds(seconds, 0, want, 0, n);
+		AiracVectorBulk.serialsOfEpochSeconds(seconds, 0, got, 0, n);
+		assertArrayEquals(want, got);
+		for (int i = 0; i < n; i++) {
+			assertEquals(Math.floorDiv(seconds[i] - epochSecond, 2419200L), got[i]);
+		}
+	}
+
+	@Test
+	public void testOverflowWritesNothing() {
+		int n = 1027;
+		long[] seconds = new long[n];
+		for (int i = 0; i < n; i++) {
+			seconds[i] = i * 86400L;
+		}
+		// late elements, within the vector loop and within the scalar tail
+		for (int late : new int[]{n - 100, n - 1}) {
+			long[] overflowing = seconds.clone();
+			overflowing[late] = Long.MAX_VALUE;
+			int[] got = new int[n];
+			Arrays.fill(got, -1);
+			try {
+				LongVectorKernel.serialsOfEpochSeconds(overflowing, 0, got, 0, n);
+				fail(String.valueOf(late));
+			} catch (ArithmeticException e) {
+				int[] untouched = new int[n];
+				Arrays.fill(untouched, -1);
+				assertArrayEquals(untouched, got);
+			}
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testOutOfBounds() {
+		AiracVectorBulk.serialsOfEpochSeconds(new long[4], 0, new int[4], 1, 4);
+	}
+}